@@ -0,0 +1,105 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BatchBenchmark {
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private UserService userService;
+    private List<ItemDtoRequest> itemDtoRequestList;
+    private long userCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:batch-benchmarks;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        new SeedData(context.getBean(JdbcTemplate.class)).seed();
+        itemService = context.getBean(ItemService.class);
+        userService = context.getBean(UserService.class);
+        itemDtoRequestList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            itemDtoRequestList.add(new ItemDtoRequest(
+                    "Дрель " + i,
+                    "Аккумуляторная дрель, в комплекте две батареи",
+                    true,
+                    null
+            ));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int createItemsOneByOne() {
+        int created = 0;
+        for (ItemDtoRequest itemDtoRequest : itemDtoRequestList) {
+            itemService.createItem(itemDtoRequest, SeedData.OWNER_ID);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public BatchResponse<ItemDtoResponse> createItemsBatch() {
+        return itemService.createItems(itemDtoRequestList, SeedData.OWNER_ID, BatchMode.ATOMIC);
+    }
+
+    @Benchmark
+    public int createUsersOneByOne() {
+        int created = 0;
+        for (UserDto userDto : nextUsers()) {
+            userService.createUser(userDto);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public BatchResponse<UserDto> createUsersBatch() {
+        return userService.createUsers(nextUsers(), BatchMode.ATOMIC);
+    }
+
+    private List<UserDto> nextUsers() {
+        List<UserDto> userDtoList = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            long id = ++userCounter;
+            userDtoList.add(new UserDto(null, "Пользователь " + id, "batch" + id + "@shareit.ru"));
+        }
+        return userDtoList;
+    }
+}
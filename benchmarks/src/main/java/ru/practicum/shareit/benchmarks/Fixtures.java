@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmarks;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dto.BookingForItemDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Fixtures {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private static final Status[] STATUSES = Status.values();
+
+    public static User user(long id) {
+        return new User(id, "Пользователь " + id, "user" + id + "@shareit.ru", 0L);
+    }
+
+    public static ItemRequest itemRequest(long id) {
+        return new ItemRequest(id, "Нужна дрель с ударным режимом " + id, user(id), NOW.minusDays(id % 30), 0L);
+    }
+
+    public static Item item(long id, ItemRequest request) {
+        return new Item(
+                id,
+                "Дрель «Салют» " + id,
+                "Мощность 600 вт, работает ударный режим, так что бетон возьмёт",
+                true,
+                1L,
+                request,
+                0L
+        );
+    }
+
+    public static List<Item> items(int count, ItemRequest request) {
+        List<Item> itemList = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            itemList.add(item(i, request));
+        }
+        return itemList;
+    }
+
+    public static List<Booking> bookings(int count) {
+        List<Booking> bookingList = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            bookingList.add(new Booking(
+                    (long) i,
+                    NOW.minusDays(i),
+                    NOW.minusDays(i).plusHours(36),
+                    item(i % 50 + 1, null),
+                    user(i % 200 + 2),
+                    STATUSES[i % STATUSES.length],
+                    0L
+            ));
+        }
+        return bookingList;
+    }
+
+    public static BookingForItemDto bookingForItem(long id, long daysFromNow) {
+        return new BookingForItemDto(id, id + 1, NOW.plusDays(daysFromNow), NOW.plusDays(daysFromNow + 2));
+    }
+
+    public static List<CommentDto> comments(int count) {
+        List<CommentDto> commentDtoList = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            commentDtoList.add(new CommentDto(
+                    (long) i,
+                    "Дрель успешно справилась с бетоном, картины повешены",
+                    "Пользователь " + i,
+                    NOW.minusDays(i)
+            ));
+        }
+        return commentDtoList;
+    }
+}
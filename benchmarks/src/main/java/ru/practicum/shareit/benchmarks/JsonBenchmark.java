@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.dto.ItemMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBenchmark {
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private BookingDtoResponse bookingDtoResponse;
+    private List<BookingDtoResponse> bookingDtoResponseList;
+    private ItemDtoResponse itemDtoResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        bookingDtoResponseList = BookingMapper.toBookingDtoResponseList(Fixtures.bookings(size));
+        bookingDtoResponse = bookingDtoResponseList.get(0);
+        itemDtoResponse = ItemMapper.toItemDto(
+                Fixtures.item(1, Fixtures.itemRequest(1)),
+                Fixtures.bookingForItem(1, -3),
+                Fixtures.bookingForItem(2, 3),
+                Fixtures.comments(size)
+        );
+    }
+
+    @Benchmark
+    public byte[] writeBookingDtoResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(bookingDtoResponse);
+    }
+
+    @Benchmark
+    public byte[] writeBookingDtoResponseList() throws Exception {
+        return objectMapper.writeValueAsBytes(bookingDtoResponseList);
+    }
+
+    @Benchmark
+    public byte[] writeItemDtoResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(itemDtoResponse);
+    }
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.BookingForItemDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemForItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+    @Param({"10", "100"})
+    private int size;
+
+    private List<Booking> bookingList;
+    private ItemRequest itemRequest;
+    private List<ItemForItemRequestDto> requestItemList;
+    private Item item;
+    private BookingForItemDto lastBooking;
+    private BookingForItemDto nextBooking;
+    private List<CommentDto> commentDtoList;
+
+    @Setup
+    public void setUp() {
+        bookingList = Fixtures.bookings(size);
+        itemRequest = Fixtures.itemRequest(1);
+        requestItemList = ItemRequestMapper.toItemForItemRequestDtoList(Fixtures.items(size, itemRequest));
+        item = Fixtures.item(1, itemRequest);
+        lastBooking = Fixtures.bookingForItem(1, -3);
+        nextBooking = Fixtures.bookingForItem(2, 3);
+        commentDtoList = Fixtures.comments(size);
+    }
+
+    @Benchmark
+    public List<BookingDtoResponse> toBookingDtoResponseList() {
+        return BookingMapper.toBookingDtoResponseList(bookingList);
+    }
+
+    @Benchmark
+    public ItemRequestDto toItemRequestDto() {
+        return ItemRequestMapper.toItemRequestDto(itemRequest, requestItemList);
+    }
+
+    @Benchmark
+    public ItemDtoResponse toItemDto() {
+        return ItemMapper.toItemDto(item, lastBooking, nextBooking, commentDtoList);
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SeedData {
+    public static final long OWNER_ID = 1L;
+    public static final int USERS = 1_000;
+    public static final int ITEMS = 20_000;
+    public static final int OWNER_ITEMS = 500;
+    public static final int BOOKINGS_PER_ITEM = 5;
+    public static final int COMMENTS = 20_000;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] NAMES = {
+            "Дрель", "Перфоратор", "Шуруповерт", "Лестница", "Палатка",
+            "Велосипед", "Самокат", "Пила", "Фотоаппарат", "Граммофон"
+    };
+    private static final String[] DETAILS = {
+            "аккумуляторный", "профессиональный", "складной", "ударный", "компактный",
+            "садовый", "туристический", "детский", "цифровой", "старинный"
+    };
+    private static final String[] STATUSES = {"WAITING", "APPROVED", "APPROVED", "REJECTED", "CANCELED"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public SeedData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void seed() {
+        seedUsers();
+        seedItems();
+        seedBookings();
+        seedComments();
+    }
+
+    private void seedUsers() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            rows.add(new Object[]{id, "Пользователь " + id, "user" + id + "@shareit.ru"});
+        }
+        insert("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", rows);
+    }
+
+    private void seedItems() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            long owner = id <= OWNER_ITEMS ? OWNER_ID : 2 + id % (USERS - 1);
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String description = DETAILS[random.nextInt(DETAILS.length)] + " " + name.toLowerCase() +
+                    ", в хорошем состоянии, можно забрать в любой день";
+            rows.add(new Object[]{id, name + " " + id, description, random.nextInt(10) > 1, owner});
+        }
+        insert("INSERT INTO items (id, name, description, available, owner) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private void seedBookings() {
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            LocalDateTime start = now.minusDays(BOOKINGS_PER_ITEM * 4L - random.nextInt(4));
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                LocalDateTime end = start.plusDays(1 + random.nextInt(3));
+                long booker = 2 + random.nextInt(USERS - 1);
+                rows.add(new Object[]{
+                        id++,
+                        Timestamp.valueOf(start),
+                        Timestamp.valueOf(end),
+                        itemId,
+                        booker,
+                        STATUSES[random.nextInt(STATUSES.length)]
+                });
+                start = end.plusDays(random.nextInt(4) + 1L);
+            }
+        }
+        insert("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void seedComments() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            rows.add(new Object[]{
+                    2 + random.nextInt(USERS - 1),
+                    1 + random.nextInt(ITEMS),
+                    "Вещь в отличном состоянии, владелец пунктуален",
+                    Timestamp.valueOf(now.minusDays(random.nextInt(365)))
+            });
+        }
+        insert("INSERT INTO comments (author_id, item_id, text, created) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
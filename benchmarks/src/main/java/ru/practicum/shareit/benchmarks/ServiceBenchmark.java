@@ -0,0 +1,77 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ServiceBenchmark {
+    @Param({"INDEX", "DATABASE"})
+    private String searchMode;
+    @Param({"20"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "shareit.search.mode=" + searchMode,
+                        "logging.level.root=WARN"
+                )
+                .run();
+        new SeedData(context.getBean(JdbcTemplate.class)).seed();
+        context.getBean(ItemSearchIndex.class).rebuild();
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDtoResponse> getAllBookingsForOwner(OwnerBookings ownerBookings) {
+        return bookingService.getAllBookingsForOwner(ownerBookings.state, SeedData.OWNER_ID, 0, size);
+    }
+
+    @Benchmark
+    public List<ItemDtoResponse> searchItem() {
+        return itemService.searchItem("дрель", 0, size);
+    }
+
+    @Benchmark
+    public List<ItemDtoResponse> getAllItemsByUser() {
+        return itemService.getAllItemsByUser(SeedData.OWNER_ID, 0, size);
+    }
+
+    @State(Scope.Benchmark)
+    public static class OwnerBookings {
+        @Param({"ALL", "PAST", "FUTURE", "WAITING"})
+        private String state;
+    }
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.client.PassThroughResponseExtractor;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PassThroughBenchmark {
+    @Param({"1024", "65536", "1048576"})
+    private int bodySize;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private RestTemplate rest;
+    private ObjectMapper objectMapper;
+    private URI uri;
+    private HttpEntity<Void> requestEntity;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = jsonBody(bodySize);
+        executor = Executors.newFixedThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            try (OutputStream out = exchange.getResponseBody()) {
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(200, body.length);
+                out.write(body);
+            }
+        });
+        server.start();
+        rest = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+        objectMapper = new ObjectMapper();
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/items");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        requestEntity = new HttpEntity<>(headers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jsonRoundTrip() throws IOException {
+        ResponseEntity<Object> response = rest.exchange(uri, HttpMethod.GET, requestEntity, Object.class);
+        DiscardingResponse target = new DiscardingResponse();
+        copyHeaders(response.getHeaders(), target);
+        objectMapper.writeValue(target.getOutputStream(), response.getBody());
+        return target;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse bufferedBytes() throws IOException {
+        ResponseEntity<byte[]> response = rest.exchange(uri, HttpMethod.GET, requestEntity, byte[].class);
+        DiscardingResponse target = new DiscardingResponse();
+        copyHeaders(response.getHeaders(), target);
+        target.getOutputStream().write(response.getBody());
+        return target;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse streamed() {
+        DiscardingResponse target = new DiscardingResponse();
+        rest.execute(uri, HttpMethod.GET, rest.httpEntityCallback(requestEntity),
+                new PassThroughResponseExtractor(target));
+        return target;
+    }
+
+    private static void copyHeaders(HttpHeaders headers, MockHttpServletResponse target) {
+        headers.forEach((name, values) -> {
+            if (PassThroughResponseExtractor.isForwarded(name)) {
+                values.forEach(value -> target.addHeader(name, value));
+            }
+        });
+    }
+
+    private static byte[] jsonBody(int size) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; json.length() < size; id++) {
+            if (id > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(id)
+                    .append(",\"name\":\"Дрель ").append(id)
+                    .append("\",\"description\":\"Ударная дрель, работает от сети\",\"available\":true}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class DiscardingResponse extends MockHttpServletResponse {
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.ratelimit.RateLimitProperties;
+import ru.practicum.shareit.ratelimit.RateLimiter;
+import ru.practicum.shareit.ratelimit.TokenBucket;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RateLimiterBenchmark {
+    private static final String GROUP = "/items/search";
+
+    @Param({"1", "10000"})
+    private int users;
+
+    @Param({"1000000000", "10"})
+    private double refillPerSecond;
+
+    private RateLimiter rateLimiter;
+    private TokenBucket tokenBucket;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(100);
+        limit.setRefillPerSecond(refillPerSecond);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(Map.of(GROUP, limit));
+        rateLimiter = new RateLimiter(properties);
+        tokenBucket = new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), System.nanoTime());
+        clients = new String[users];
+        for (int i = 0; i < users; i++) {
+            clients[i] = String.valueOf(i + 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next(int bound) {
+            next = next + 1 == bound ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public long sharedBucket() {
+        return tokenBucket.tryAcquire(System.nanoTime());
+    }
+
+    @Benchmark
+    public long limiter(Cursor cursor) {
+        return rateLimiter.tryAcquire(clients[cursor.next(users)], GROUP);
+    }
+
+    @Benchmark
+    public String group() {
+        return rateLimiter.group("/items/search");
+    }
+}
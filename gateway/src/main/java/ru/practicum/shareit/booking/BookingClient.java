@@ -7,11 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.exceptions.model.ValidationException;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -19,48 +21,95 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            HttpComponentsClientHttpRequestFactory upstreamRequestFactory
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> upstreamRequestFactory)
                         .build()
         );
     }
 
-    public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookings(
+            long userId,
+            BookingState state,
+            Integer from,
+            Integer size,
+            String cursor
+    ) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return getPage("?state={state}&from={from}&size={size}", userId, parameters, cursor);
     }
 
 
-    public ResponseEntity<Object> createBooking(long userId, BookItemRequestDto requestDto) {
+    public Mono<ResponseEntity<Object>> createBooking(long userId, BookItemRequestDto requestDto) {
         checkEndBeforeStart(requestDto);
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
+    public Mono<ResponseEntity<Object>> createBookings(
+            long userId,
+            List<BookItemRequestDto> requestDtoList,
+            String mode
+    ) {
+        return postBatch("/batch", userId, requestDtoList, mode, this::checkBookingDates);
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> updateBookingStatus(String approved, Long bookingId, Long userId) {
+    public Mono<ResponseEntity<Object>> updateBookingStatuses(String approved, List<Long> bookingIdList, Long userId) {
+        checkBatchSize(bookingIdList);
+        Map<String, Object> parameters = Map.of(
+                "approved", approved
+        );
+        return patch("/batch?approved={approved}", userId, parameters, bookingIdList);
+    }
+
+    public Mono<ResponseEntity<Object>> updateBookingStatus(String approved, Long bookingId, Long userId) {
         Map<String, Object> parameters = Map.of(
                 "approved", approved
         );
         return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
     }
 
-    public ResponseEntity<Object> getAllBookingsForOwner(int from, int size, BookingState state, Long userId) {
+    public Mono<ResponseEntity<Object>> getAllBookingsForOwner(
+            int from,
+            int size,
+            String cursor,
+            BookingState state,
+            Long userId
+    ) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
         );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        return getPage("/owner?state={state}&from={from}&size={size}", userId, parameters, cursor);
+    }
+
+    public Mono<ResponseEntity<Object>> countBookings(Long userId) {
+        return get("/counts", userId);
+    }
+
+    public Mono<ResponseEntity<Object>> countBookingsForOwner(Long userId) {
+        return get("/owner/counts", userId);
+    }
+
+    private void checkBookingDates(BookItemRequestDto booking) {
+        if (booking.getStart() == null || booking.getEnd() == null) {
+            throw new ValidationException("Не указаны даты бронирования");
+        }
+        checkEndBeforeStart(booking);
     }
 
     private void checkEndBeforeStart(BookItemRequestDto booking) {
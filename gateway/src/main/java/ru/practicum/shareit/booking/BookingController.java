@@ -7,12 +7,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -23,20 +25,21 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @GetMapping
-    public ResponseEntity<Object> getBookings(
+    public Mono<ResponseEntity<Object>> getBookings(
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(name = "state", defaultValue = "all") String stateParam,
             @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size
+            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
         log.info("Получен запрос на формирование бронирования от пользвателя с ID: " + userId);
-        return bookingClient.getBookings(userId, state, from, size);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
     }
 
     @PostMapping
-    public ResponseEntity<Object> bookItem(
+    public Mono<ResponseEntity<Object>> bookItem(
             @Positive @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestBody @Valid BookItemRequestDto requestDto
     ) {
@@ -45,8 +48,19 @@ public class BookingController {
         return bookingClient.createBooking(userId, requestDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> bookItems(
+            @Positive @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestBody List<@Valid BookItemRequestDto> requestDtoList,
+            @RequestParam(defaultValue = "ATOMIC") String mode
+    ) {
+        log.info("Получен запрос на пакетное создание бронирований от пользвателя с ID: " + userId +
+                ". Количество: " + requestDtoList.size());
+        return bookingClient.createBookings(userId, requestDtoList, mode);
+    }
+
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(
+    public Mono<ResponseEntity<Object>> getBooking(
             @Positive @RequestHeader("X-Sharer-User-Id") long userId,
             @Positive @PathVariable Long bookingId
     ) {
@@ -55,7 +69,7 @@ public class BookingController {
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBookingStatus(
+    public Mono<ResponseEntity<Object>> updateBookingStatus(
             @RequestParam String approved,
             @Positive @PathVariable Long bookingId,
             @RequestHeader("X-Sharer-User-Id") Long userId
@@ -65,16 +79,42 @@ public class BookingController {
         return bookingClient.updateBookingStatus(approved, bookingId, userId);
     }
 
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<Object>> updateBookingStatuses(
+            @RequestParam String approved,
+            @RequestBody List<@Positive Long> bookingIdList,
+            @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        log.info("Получен запрос на пакетное обновление статуса бронирований. Параметр обновления: " + approved +
+                ". Количество: " + bookingIdList.size() + ". Запрос получен от пользователя с ID: " + userId);
+        return bookingClient.updateBookingStatuses(approved, bookingIdList, userId);
+    }
+
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllBookingsForOwner(
+    public Mono<ResponseEntity<Object>> getAllBookingsForOwner(
             @PositiveOrZero @RequestParam(defaultValue = "0") int from,
             @Positive @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(name = "state", defaultValue = "all") String stateParam,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
         log.info("Получен запрос на формирование списка бронирований для вещей владельца с ID " + userId);
-        return bookingClient.getAllBookingsForOwner(from, size, state, userId);
+        return bookingClient.getAllBookingsForOwner(from, size, cursor, state, userId);
+    }
+
+    @GetMapping("/counts")
+    public Mono<ResponseEntity<Object>> countBookings(@Positive @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Получен запрос на подсчет бронирований по состояниям для пользователя с ID: " + userId);
+        return bookingClient.countBookings(userId);
+    }
+
+    @GetMapping("/owner/counts")
+    public Mono<ResponseEntity<Object>> countBookingsForOwner(
+            @Positive @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        log.info("Получен запрос на подсчет бронирований по состояниям для вещей владельца с ID: " + userId);
+        return bookingClient.countBookingsForOwner(userId);
     }
 }
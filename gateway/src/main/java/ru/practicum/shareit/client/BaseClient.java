@@ -1,98 +1,290 @@
 package ru.practicum.shareit.client;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exceptions.model.ValidationException;
+import ru.practicum.shareit.resilience.UpstreamGuard;
 
 public class BaseClient {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final Set<String> BATCH_MODES = Set.of("ATOMIC", "PARTIAL");
+    private static final List<String> CONDITIONAL_HEADERS = List.of(
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MATCH
+    );
+
     protected final RestTemplate rest;
+    private GatewayResponseCache responseCache;
+    private RequestCoalescer requestCoalescer;
+    private UpstreamGuard upstreamGuard;
+    private WebClient webClient;
 
     public BaseClient(RestTemplate rest) {
         this.rest = rest;
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    @Autowired(required = false)
+    public void setResponseCache(GatewayResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Autowired(required = false)
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    @Autowired(required = false)
+    public void setUpstreamGuard(UpstreamGuard upstreamGuard) {
+        this.upstreamGuard = upstreamGuard;
+    }
+
+    @Autowired(required = false)
+    public void setWebClient(WebClient upstreamWebClient) {
+        this.webClient = upstreamWebClient;
+    }
+
+    protected Mono<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected Mono<ResponseEntity<Object>> getPage(
+            String path,
+            Long userId,
+            Map<String, Object> parameters,
+            @Nullable String cursor
+    ) {
+        if (cursor == null) {
+            return get(path, userId, parameters);
+        }
+        Map<String, Object> cursorParameters = new HashMap<>(parameters);
+        cursorParameters.put("cursor", cursor);
+        return get(path + "&cursor={cursor}", userId, cursorParameters);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> postBatch(
+            String path,
+            @Nullable Long userId,
+            List<T> rows,
+            String mode,
+            Consumer<T> rowCheck
+    ) {
+        checkBatchSize(rows);
+        if (!BATCH_MODES.contains(mode)) {
+            throw new ValidationException("Unknown mode: " + mode);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) == null) {
+                throw new ValidationException("Строка " + i + " пакета пуста");
+            }
+            try {
+                rowCheck.accept(rows.get(i));
+            } catch (ValidationException e) {
+                throw new ValidationException("Строка " + i + " пакета: " + e.getMessage());
+            }
+        }
+        return post(path + "?mode={mode}", userId, Map.of("mode", mode), rows);
+    }
+
+    protected void checkBatchSize(List<?> rows) {
+        if (rows.isEmpty() || rows.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Размер пакета должен быть от 1 до " + MAX_BATCH_SIZE +
+                    ". Переданное значение: " + rows.size());
+        }
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected Mono<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        URI uri = parameters != null
+                ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path);
+        HttpHeaders headers = defaultHeaders(userId);
+        if (isConditionalRequest()) {
+            return exchange(method, uri, headers, body, true);
+        }
+        boolean cacheEnabled = responseCache != null && responseCache.isEnabled();
+        if (method == HttpMethod.GET) {
+            boolean coalescingEnabled = requestCoalescer != null && requestCoalescer.isEnabled();
+            boolean shared = cacheEnabled || coalescingEnabled;
+            Supplier<Mono<ResponseEntity<Object>>> loader = () -> exchange(method, uri, headers, body, !shared);
+            if (coalescingEnabled) {
+                Supplier<Mono<ResponseEntity<Object>>> upstreamLoader = loader;
+                loader = () -> requestCoalescer.coalesce(uri, userId, upstreamLoader);
+            }
+            return cacheEnabled ? responseCache.get(uri, userId, loader) : loader.get();
+        }
+        Mono<ResponseEntity<Object>> response = exchange(method, uri, headers, body, true);
+        return cacheEnabled ? response.doOnSuccess(result -> responseCache.invalidate(uri)) : response;
+    }
+
+    private <T> Mono<ResponseEntity<Object>> exchange(
+            HttpMethod method,
+            URI uri,
+            HttpHeaders headers,
+            @Nullable T body,
+            boolean streamable
+    ) {
+        if (upstreamGuard != null && upstreamGuard.isEnabled()) {
+            return upstreamGuard.call(uri, () -> upstreamExchange(method, uri, headers, body, streamable));
+        }
+        return upstreamExchange(method, uri, headers, body, streamable);
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    private <T> Mono<ResponseEntity<Object>> upstreamExchange(
+            HttpMethod method,
+            URI uri,
+            HttpHeaders headers,
+            @Nullable T body,
+            boolean streamable
+    ) {
+        if (webClient != null) {
+            WebClient.RequestBodySpec requestBody = webClient.method(method)
+                    .uri(uri)
+                    .headers(requestHeaders -> requestHeaders.addAll(headers));
+            WebClient.RequestHeadersSpec<?> request = body != null ? requestBody.bodyValue(body) : requestBody;
+            return request.exchangeToMono(response -> response.toEntity(byte[].class))
+                    .map(response -> prepareGatewayResponse(
+                            response.getStatusCode(),
+                            response.getHeaders(),
+                            response.getBody()
+                    ));
+        }
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            return Mono.justOrEmpty(blockingExchange(method, uri, headers, body, streamable));
+        } catch (IOException | RuntimeException e) {
+            return Mono.error(e);
+        }
+    }
+
+    @Nullable
+    private <T> ResponseEntity<Object> blockingExchange(
+            HttpMethod method,
+            URI uri,
+            HttpHeaders headers,
+            @Nullable T body,
+            boolean streamable
+    ) throws IOException {
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
+        HttpServletResponse currentResponse = streamable ? currentResponse() : null;
+        if (currentResponse != null) {
+            return streamingExchange(method, uri, requestEntity, currentResponse);
+        }
+
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            shareitServerResponse = rest.exchange(uri, method, requestEntity, byte[].class);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+        return prepareGatewayResponse(
+                shareitServerResponse.getStatusCode(),
+                shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody()
+        );
+    }
+
+    @Nullable
+    private <T> ResponseEntity<Object> streamingExchange(
+            HttpMethod method,
+            URI uri,
+            HttpEntity<T> requestEntity,
+            HttpServletResponse currentResponse
+    ) throws IOException {
+        ClientHttpRequest request = rest.getRequestFactory().createRequest(uri, method);
+        rest.httpEntityCallback(requestEntity).doWithRequest(request);
+        try (ClientHttpResponse response = request.execute()) {
+            if (response.getStatusCode().isError()) {
+                return prepareGatewayResponse(
+                        response.getStatusCode(),
+                        response.getHeaders(),
+                        StreamUtils.copyToByteArray(response.getBody())
+                );
+            }
+            new PassThroughResponseExtractor(currentResponse).extractData(response);
+            return null;
         }
-        return prepareGatewayResponse(shareitServerResponse);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -102,18 +294,63 @@ public class BaseClient {
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
+        HttpServletRequest currentRequest = currentRequest();
+        if (currentRequest != null) {
+            for (String name : CONDITIONAL_HEADERS) {
+                String value = currentRequest.getHeader(name);
+                if (value != null) {
+                    headers.set(name, value);
+                }
+            }
+        }
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+    private static boolean isConditionalRequest() {
+        HttpServletRequest currentRequest = currentRequest();
+        if (currentRequest == null) {
+            return false;
         }
+        return CONDITIONAL_HEADERS.stream().anyMatch(name -> currentRequest.getHeader(name) != null);
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    @Nullable
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getRequest();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static HttpServletResponse currentResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getResponse();
+        }
+        return null;
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(
+            HttpStatus status,
+            @Nullable HttpHeaders serverHeaders,
+            @Nullable byte[] body
+    ) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
+
+        if (serverHeaders != null) {
+            HttpHeaders headers = new HttpHeaders();
+            serverHeaders.forEach((name, values) -> {
+                if (PassThroughResponseExtractor.isForwarded(name)) {
+                    headers.addAll(name, values);
+                }
+            });
+            responseBuilder.headers(headers);
+        }
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+public class BlockingMonoReturnValueHandler implements HandlerMethodReturnValueHandler {
+    private static final MethodParameter RESPONSE_ENTITY_TYPE = new MethodParameter(
+            ReflectionUtils.findMethod(BlockingMonoReturnValueHandler.class, "responseEntity"),
+            -1
+    );
+
+    private final HandlerMethodReturnValueHandler responseEntityHandler;
+
+    public BlockingMonoReturnValueHandler(HandlerMethodReturnValueHandler responseEntityHandler) {
+        this.responseEntityHandler = responseEntityHandler;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Mono.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(
+            Object returnValue,
+            MethodParameter returnType,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest
+    ) throws Exception {
+        Object response;
+        try {
+            response = returnValue != null ? ((Mono<?>) returnValue).block() : null;
+        } catch (RuntimeException e) {
+            Throwable cause = Exceptions.unwrap(e);
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+        if (response == null) {
+            mavContainer.setRequestHandled(true);
+            return;
+        }
+        responseEntityHandler.handleReturnValue(response, RESPONSE_ENTITY_TYPE, mavContainer, webRequest);
+    }
+
+    private static ResponseEntity<Object> responseEntity() {
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "shareit-server.pool.mode", havingValue = "BLOCKING", matchIfMissing = true)
+public class BlockingResponseConfig {
+    @Autowired
+    private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+    @PostConstruct
+    public void registerBlockingMonoHandler() {
+        List<HandlerMethodReturnValueHandler> handlers = requestMappingHandlerAdapter.getReturnValueHandlers();
+        HandlerMethodReturnValueHandler responseEntityHandler = handlers.stream()
+                .filter(handler -> handler instanceof HttpEntityMethodProcessor)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Не найден обработчик ResponseEntity"));
+        List<HandlerMethodReturnValueHandler> blockingHandlers = new ArrayList<>();
+        blockingHandlers.add(new BlockingMonoReturnValueHandler(responseEntityHandler));
+        blockingHandlers.addAll(handlers);
+        requestMappingHandlerAdapter.setReturnValueHandlers(blockingHandlers);
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.coalescing")
+public class CoalescingProperties {
+    private boolean enabled = true;
+    private Duration maxWait = Duration.ofSeconds(2);
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class GatewayResponseCache {
+    private static final Map<String, Set<String>> INVALIDATED_FAMILIES = Map.of(
+            "users", Set.of("users", "items", "bookings"),
+            "items", Set.of("items", "bookings", "requests"),
+            "bookings", Set.of("bookings", "items"),
+            "requests", Set.of("requests")
+    );
+
+    private final boolean enabled;
+    private final Cache<Key, ResponseEntity<Object>> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.responses");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ResponseEntity<Object>> get(URI uri, Long userId, Supplier<Mono<ResponseEntity<Object>>> loader) {
+        AtomicLong generation = generation(toFamily(uri));
+        Key key = new Key(generation.get(), uri.toString(), userId);
+        ResponseEntity<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return loader.get().doOnNext(response -> {
+            if (response.getStatusCode().is2xxSuccessful() && generation.get() == key.getGeneration()) {
+                cache.put(key, response);
+            }
+        });
+    }
+
+    public void invalidate(URI uri) {
+        String family = toFamily(uri);
+        for (String invalidated : INVALIDATED_FAMILIES.getOrDefault(family, Set.of(family))) {
+            generation(invalidated).incrementAndGet();
+        }
+    }
+
+    private AtomicLong generation(String family) {
+        return generations.computeIfAbsent(family, name -> new AtomicLong());
+    }
+
+    private static String toFamily(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return "";
+    }
+
+    @Value
+    private static class Key {
+        long generation;
+        String uri;
+        Long userId;
+    }
+}
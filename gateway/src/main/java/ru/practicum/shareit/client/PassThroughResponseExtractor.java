@@ -0,0 +1,54 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Set;
+
+public class PassThroughResponseExtractor implements ResponseExtractor<Void> {
+    private static final Set<String> NOT_FORWARDED_HEADERS = Set.of(
+            "connection",
+            "keep-alive",
+            "transfer-encoding",
+            "content-length",
+            "date"
+    );
+    private static final int BUFFER_SIZE = 8192;
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private final HttpServletResponse target;
+
+    public PassThroughResponseExtractor(HttpServletResponse target) {
+        this.target = target;
+    }
+
+    public static boolean isForwarded(String headerName) {
+        return !NOT_FORWARDED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public Void extractData(ClientHttpResponse response) throws IOException {
+        target.setStatus(response.getRawStatusCode());
+        response.getHeaders().forEach((name, values) -> {
+            if (isForwarded(name)) {
+                for (String value : values) {
+                    target.addHeader(name, value);
+                }
+            }
+        });
+        byte[] buffer = BUFFERS.get();
+        InputStream body = response.getBody();
+        ServletOutputStream out = target.getOutputStream();
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        target.flushBuffer();
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class RequestCoalescer {
+    private final boolean enabled;
+    private final Duration maxWait;
+    private final Map<Key, Mono<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public RequestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxWait = properties.getMaxWait();
+        this.leaders = Counter.builder("gateway.coalescing.requests")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("gateway.coalescing.requests")
+                .tag("role", "follower")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("gateway.coalescing.timeouts")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.in-flight", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ResponseEntity<Object>> coalesce(
+            URI uri,
+            Long userId,
+            Supplier<Mono<ResponseEntity<Object>>> loader
+    ) {
+        Key key = new Key(uri.toString(), userId);
+        AtomicReference<Mono<ResponseEntity<Object>>> call = new AtomicReference<>();
+        call.set(Mono.defer(loader)
+                .doFinally(signal -> inFlight.remove(key, call.get()))
+                .cache());
+        Mono<ResponseEntity<Object>> existing = inFlight.putIfAbsent(key, call.get());
+        if (existing == null) {
+            leaders.increment();
+            return call.get();
+        }
+        followers.increment();
+        return existing.timeout(maxWait, Mono.defer(() -> {
+            timeouts.increment();
+            return loader.get();
+        }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    @Value
+    private static class Key {
+        String uri;
+        Long userId;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.exceptions.model.AlreadyExistsException;
 import ru.practicum.shareit.exceptions.model.NotFoundException;
+import ru.practicum.shareit.exceptions.model.UpstreamUnavailableException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
 
 import javax.persistence.EntityNotFoundException;
@@ -43,4 +44,11 @@ public class ErrorHandler {
         log.error(e.getMessage());
         return Map.of("error", e.getMessage());
     }
+
+    @ExceptionHandler({UpstreamUnavailableException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> handlerUpstreamUnavailableException(final UpstreamUnavailableException e) {
+        log.warn(e.getMessage());
+        return Map.of("error", e.getMessage());
+    }
 }
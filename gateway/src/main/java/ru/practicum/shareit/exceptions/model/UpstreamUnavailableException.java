@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions.model;
+
+public class UpstreamUnavailableException extends RuntimeException {
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -7,11 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.exceptions.model.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -19,48 +21,60 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            HttpComponentsClientHttpRequestFactory upstreamRequestFactory
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> upstreamRequestFactory)
                         .build()
         );
     }
 
-    public ResponseEntity<Object> createItem(ItemDtoRequest itemDtoRequest, Long userId) {
+    public Mono<ResponseEntity<Object>> createItem(ItemDtoRequest itemDtoRequest, Long userId) {
         checkNameItem(itemDtoRequest);
         checkDescriptionItem(itemDtoRequest);
         checkAvailableItem(itemDtoRequest);
         return post("", userId, itemDtoRequest);
     }
 
-    public ResponseEntity<Object> getAllItems(int from, int size, Long userId) {
+    public Mono<ResponseEntity<Object>> createItems(List<ItemDtoRequest> itemDtoRequestList, String mode, Long userId) {
+        return postBatch("/batch", userId, itemDtoRequestList, mode, itemDtoRequest -> {
+            checkNameItem(itemDtoRequest);
+            checkDescriptionItem(itemDtoRequest);
+            checkAvailableItem(itemDtoRequest);
+        });
+    }
+
+    public Mono<ResponseEntity<Object>> getAllItems(int from, int size, String cursor, Long userId) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
-        return get("?from={from}&size={size}", userId, parameters);
+        return getPage("?from={from}&size={size}", userId, parameters, cursor);
     }
 
-    public ResponseEntity<Object> getItemById(Long itemId, Long userId) {
+    public Mono<ResponseEntity<Object>> getItemById(Long itemId, Long userId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> updateItem(ItemDtoRequest itemDtoRequest, Long itemId, Long userId) {
+    public Mono<ResponseEntity<Object>> updateItem(ItemDtoRequest itemDtoRequest, Long itemId, Long userId) {
         return patch("/" + itemId, userId, itemDtoRequest);
     }
 
-    public ResponseEntity<Object> searchItem(Long userId, int from, int size, String text) {
+    public Mono<ResponseEntity<Object>> searchItem(Long userId, int from, int size, String cursor, String text) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return getPage("/search?text={text}&from={from}&size={size}", userId, parameters, cursor);
     }
 
-    public ResponseEntity<Object> addComment(CommentDto commentDto, Long itemId, Long userId) {
+    public Mono<ResponseEntity<Object>> addComment(CommentDto commentDto, Long itemId, Long userId) {
         return post("/" + itemId + "/comment", userId, commentDto);
     }
 
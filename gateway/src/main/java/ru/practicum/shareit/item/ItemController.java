@@ -5,11 +5,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Slf4j
 @Controller
@@ -19,7 +21,7 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItem(
+    public Mono<ResponseEntity<Object>> createItem(
             @RequestBody ItemDtoRequest itemDtoRequest,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
@@ -27,18 +29,30 @@ public class ItemController {
         return itemClient.createItem(itemDtoRequest, userId);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> createItems(
+            @RequestBody List<ItemDtoRequest> itemDtoRequestList,
+            @RequestParam(defaultValue = "ATOMIC") String mode,
+            @Positive @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        log.info("Получен запрос на пакетное добавление вещей от пользователя с ID: " + userId +
+                ". Количество: " + itemDtoRequestList.size());
+        return itemClient.createItems(itemDtoRequestList, mode, userId);
+    }
+
     @GetMapping
-    public ResponseEntity<Object> getAllItem(
+    public Mono<ResponseEntity<Object>> getAllItem(
             @PositiveOrZero @RequestParam(defaultValue = "0") int from,
             @Positive @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос на формирование списка всех вещей от пользователя с ID: " + userId);
-        return itemClient.getAllItems(from, size, userId);
+        return itemClient.getAllItems(from, size, cursor, userId);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(
+    public Mono<ResponseEntity<Object>> getItemById(
             @Positive @PathVariable Long itemId,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
@@ -47,7 +61,7 @@ public class ItemController {
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(
+    public Mono<ResponseEntity<Object>> updateItem(
             @RequestBody ItemDtoRequest itemDtoRequest,
             @Positive @PathVariable Long itemId,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
@@ -57,18 +71,19 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItem(
+    public Mono<ResponseEntity<Object>> searchItem(
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId,
             @PositiveOrZero @RequestParam(defaultValue = "0") int from,
             @Positive @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam String text
     ) {
         log.info("Получен запрос на поиск вещи. Текст поискового запроса: " + text);
-        return itemClient.searchItem(userId, from, size, text);
+        return itemClient.searchItem(userId, from, size, cursor, text);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(
+    public Mono<ResponseEntity<Object>> addComment(
             @RequestBody CommentDto commentDto,
             @Positive @PathVariable Long itemId,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final boolean enabled;
+    private final Set<String> trustedProxies;
+    private final int addressMultiplier;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.enabled = properties.isEnabled();
+        this.trustedProxies = Set.copyOf(properties.getTrustedProxies());
+        this.addressMultiplier = properties.getAddressMultiplier();
+        this.rateLimiter = new RateLimiter(properties);
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        Gauge.builder("gateway.rate-limit.buckets", rateLimiter, RateLimiter::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String group = rateLimiter.group(request.getRequestURI());
+        String address = clientAddress(request);
+        Long userId = parseUserId(request.getHeader(USER_ID_HEADER));
+        String client = "addr:" + address;
+        long waitNanos;
+        if (userId == null) {
+            waitNanos = rateLimiter.tryAcquire(client, group);
+        } else {
+            client = "user:" + userId;
+            waitNanos = rateLimiter.tryAcquire("users-addr:" + address, group, addressMultiplier);
+            if (waitNanos == 0) {
+                waitNanos = rateLimiter.tryAcquire(client, group);
+            }
+        }
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(response, client, group, waitNanos);
+    }
+
+    private Long parseUserId(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            long userId = Long.parseLong(header.trim());
+            return userId > 0 ? userId : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || !trustedProxies.contains(address)) {
+            return address;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            address = hop;
+            if (!trustedProxies.contains(hop)) {
+                break;
+            }
+        }
+        return address;
+    }
+
+    private void reject(HttpServletResponse response, String client, String group, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        Counter.builder("gateway.rate-limit.rejected")
+                .tag("group", group)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Превышен лимит запросов к " + group + " для клиента " + client);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error",
+                "Превышен лимит запросов к " + group + ". Повторите запрос через " + retryAfter + " с."));
+    }
+}
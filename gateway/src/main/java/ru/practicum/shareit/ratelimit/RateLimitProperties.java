@@ -0,0 +1,35 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit();
+    private Map<String, Limit> routes = new HashMap<>();
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private long maxBuckets = 1_000_000;
+    private Set<String> trustedProxies = new HashSet<>();
+    private int addressMultiplier = 10;
+
+    public Limit getLimit(String group) {
+        return routes.getOrDefault(group, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity = 50;
+        private double refillPerSecond = 25;
+    }
+}
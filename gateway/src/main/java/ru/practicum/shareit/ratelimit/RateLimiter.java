@@ -0,0 +1,68 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class RateLimiter {
+    private static final String OTHER_GROUP = "other";
+    private static final Set<String> RESOURCES = Set.of("/users", "/items", "/bookings", "/requests");
+
+    private final RateLimitProperties properties;
+    private final List<String> routes;
+    private final Cache<Key, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.routes = properties.getRoutes().keySet().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .collect(Collectors.toList());
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .maximumSize(properties.getMaxBuckets())
+                .build();
+    }
+
+    public String group(String path) {
+        for (String route : routes) {
+            if (path.startsWith(route) && (path.length() == route.length() || path.charAt(route.length()) == '/')) {
+                return route;
+            }
+        }
+        int end = path.indexOf('/', 1);
+        String resource = end < 0 ? path : path.substring(0, end);
+        return RESOURCES.contains(resource) ? resource : OTHER_GROUP;
+    }
+
+    public long tryAcquire(String client, String group) {
+        return tryAcquire(client, group, 1);
+    }
+
+    public long tryAcquire(String client, String group, int multiplier) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new Key(client, group), key -> {
+            RateLimitProperties.Limit limit = properties.getLimit(key.getGroup());
+            return new TokenBucket(
+                    limit.getCapacity() * multiplier,
+                    limit.getRefillPerSecond() * multiplier,
+                    now
+            );
+        });
+        return bucket.tryAcquire(now);
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    @Value
+    private static class Key {
+        String client;
+        String group;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import javax.validation.Valid;
@@ -21,7 +22,7 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItemRequest(
+    public Mono<ResponseEntity<Object>> createItemRequest(
             @RequestBody @Valid ItemRequestDto itemRequestDto,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
@@ -30,23 +31,26 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemRequestForUser(@Positive @RequestHeader("X-Sharer-User-Id") Long userId) {
+    public Mono<ResponseEntity<Object>> getItemRequestForUser(
+            @Positive @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
         log.info("Получен запрос на формирование списка запросов для пользователя с ID " + userId);
         return itemRequestClient.getItemRequestForUser(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllItemRequest(
+    public Mono<ResponseEntity<Object>> getAllItemRequest(
             @PositiveOrZero @RequestParam(defaultValue = "0") int from,
             @Positive @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос на формирование списка всех запросов на вещи для пользователя с ID: " + userId);
-        return itemRequestClient.getAllItemRequest(from, size, userId);
+        return itemRequestClient.getAllItemRequest(from, size, cursor, userId);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getItemRequestById(
+    public Mono<ResponseEntity<Object>> getItemRequestById(
             @Positive @PathVariable Long requestId,
             @Positive @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
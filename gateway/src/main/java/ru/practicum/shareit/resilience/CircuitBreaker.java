@@ -0,0 +1,125 @@
+package ru.practicum.shareit.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class CircuitBreaker {
+    private final String route;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private int next;
+    private int bufferedCalls;
+    private int failedCount;
+    private int slowCount;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String route, ResilienceProperties.CircuitBreakerSettings settings) {
+        this.route = route;
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.slowCallDurationNanos = settings.getSlowCallDuration().toNanos();
+        this.minimumCalls = Math.min(settings.getMinimumCalls(), settings.getSlidingWindowSize());
+        this.openDurationNanos = settings.getOpenDuration().toNanos();
+        this.halfOpenCalls = settings.getHalfOpenCalls();
+        this.failedCalls = new boolean[settings.getSlidingWindowSize()];
+        this.slowCalls = new boolean[settings.getSlidingWindowSize()];
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == CircuitBreakerState.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(CircuitBreakerState.HALF_OPEN);
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void releasePermission() {
+        if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermits + halfOpenSuccesses < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void onResult(long durationNanos, boolean failed) {
+        boolean slow = durationNanos >= slowCallDurationNanos;
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (failed || slow) {
+                transitionTo(CircuitBreakerState.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(CircuitBreakerState.CLOSED);
+            }
+            return;
+        }
+        if (state == CircuitBreakerState.OPEN) {
+            return;
+        }
+        record(failed, slow);
+        if (bufferedCalls >= minimumCalls && (getFailureRate() >= failureRateThreshold
+                || getSlowCallRate() >= slowCallRateThreshold)) {
+            transitionTo(CircuitBreakerState.OPEN);
+        }
+    }
+
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    public synchronized float getFailureRate() {
+        return bufferedCalls == 0 ? 0 : failedCount * 100f / bufferedCalls;
+    }
+
+    public synchronized float getSlowCallRate() {
+        return bufferedCalls == 0 ? 0 : slowCount * 100f / bufferedCalls;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (bufferedCalls == failedCalls.length) {
+            failedCount -= failedCalls[next] ? 1 : 0;
+            slowCount -= slowCalls[next] ? 1 : 0;
+        } else {
+            bufferedCalls++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        failedCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        next = (next + 1) % failedCalls.length;
+    }
+
+    private void transitionTo(CircuitBreakerState newState) {
+        log.warn("Автоматический выключатель маршрута " + route + " переходит из состояния " + state +
+                " в " + newState + ". Доля ошибок: " + getFailureRate() + "%, доля медленных вызовов: " +
+                getSlowCallRate() + "%");
+        state = newState;
+        next = 0;
+        bufferedCalls = 0;
+        failedCount = 0;
+        slowCount = 0;
+        halfOpenSuccesses = 0;
+        halfOpenPermits = newState == CircuitBreakerState.HALF_OPEN ? halfOpenCalls : 0;
+        if (newState == CircuitBreakerState.OPEN) {
+            openedAt = System.nanoTime();
+        }
+    }
+}
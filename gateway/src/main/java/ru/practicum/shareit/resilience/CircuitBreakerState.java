@@ -0,0 +1,7 @@
+package ru.practicum.shareit.resilience;
+
+public enum CircuitBreakerState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.resilience")
+public class ResilienceProperties {
+    private boolean enabled = true;
+    private BulkheadSettings bulkhead = new BulkheadSettings();
+    private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+
+    @Getter
+    @Setter
+    public static class BulkheadSettings {
+        private int defaultMaxConcurrentCalls = 50;
+        private Map<String, Integer> maxConcurrentCalls = new HashMap<>();
+
+        public int getMaxConcurrentCalls(String route) {
+            return maxConcurrentCalls.getOrDefault(route, defaultMaxConcurrentCalls);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerSettings {
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 20;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exceptions.model.UpstreamUnavailableException;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class UpstreamGuard {
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UpstreamRoute> routes = new ConcurrentHashMap<>();
+
+    public UpstreamGuard(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        properties.getBulkhead().getMaxConcurrentCalls().keySet()
+                .forEach(name -> routes.computeIfAbsent(name, this::createRoute));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Collection<UpstreamRoute> getRoutes() {
+        return routes.values();
+    }
+
+    public Mono<ResponseEntity<Object>> call(URI uri, Supplier<Mono<ResponseEntity<Object>>> upstream) {
+        UpstreamRoute route = routes.computeIfAbsent(routeName(uri), this::createRoute);
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = route.getCircuitBreaker();
+            if (!circuitBreaker.tryAcquirePermission()) {
+                route.getRejectedByCircuitBreaker().increment();
+                return Mono.error(new UpstreamUnavailableException("Сервер временно недоступен для " +
+                        route.getName() + ": автоматический выключатель в состоянии " + circuitBreaker.getState()));
+            }
+            Bulkhead bulkhead = route.getBulkhead();
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                route.getRejectedByBulkhead().increment();
+                return Mono.error(new UpstreamUnavailableException("Превышено число одновременных запросов к " +
+                        route.getName() + ": " + bulkhead.getMaxConcurrentCalls()));
+            }
+            long start = System.nanoTime();
+            return upstream.get()
+                    .doOnSuccess(response -> circuitBreaker.onResult(System.nanoTime() - start,
+                            response != null && response.getStatusCode().is5xxServerError()))
+                    .doOnError(e -> circuitBreaker.onResult(System.nanoTime() - start, true))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private UpstreamRoute createRoute(String name) {
+        UpstreamRoute route = new UpstreamRoute(name, properties);
+        Gauge.builder("gateway.upstream.circuit-breaker.state", route,
+                        value -> value.getCircuitBreaker().getState().ordinal())
+                .tag("route", name)
+                .register(meterRegistry);
+        Gauge.builder("gateway.upstream.bulkhead.active-calls", route, value -> value.getBulkhead().getActiveCalls())
+                .tag("route", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.upstream.rejected", route.getRejectedByBulkhead(), LongAdder::sum)
+                .tag("route", name)
+                .tag("reason", "bulkhead")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.upstream.rejected", route.getRejectedByCircuitBreaker(), LongAdder::sum)
+                .tag("route", name)
+                .tag("reason", "circuit-breaker")
+                .register(meterRegistry);
+        return route;
+    }
+
+    private static String routeName(URI uri) {
+        String path = uri.getPath();
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
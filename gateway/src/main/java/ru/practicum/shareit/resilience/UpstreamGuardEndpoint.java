@@ -0,0 +1,36 @@
+package ru.practicum.shareit.resilience;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "upstreams")
+public class UpstreamGuardEndpoint {
+    @Autowired
+    private UpstreamGuard upstreamGuard;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> upstreams() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        for (UpstreamRoute route : upstreamGuard.getRoutes()) {
+            CircuitBreaker circuitBreaker = route.getCircuitBreaker();
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("state", circuitBreaker.getState());
+            state.put("bufferedCalls", circuitBreaker.getBufferedCalls());
+            state.put("failureRate", circuitBreaker.getFailureRate());
+            state.put("slowCallRate", circuitBreaker.getSlowCallRate());
+            state.put("activeCalls", route.getBulkhead().getActiveCalls());
+            state.put("maxConcurrentCalls", route.getBulkhead().getMaxConcurrentCalls());
+            state.put("rejectedByBulkhead", route.getRejectedByBulkhead().sum());
+            state.put("rejectedByCircuitBreaker", route.getRejectedByCircuitBreaker().sum());
+            result.put(route.getName(), state);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.resilience;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class UpstreamRoute {
+    private final String name;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final LongAdder rejectedByBulkhead = new LongAdder();
+    private final LongAdder rejectedByCircuitBreaker = new LongAdder();
+
+    public UpstreamRoute(String name, ResilienceProperties properties) {
+        this.name = name;
+        this.bulkhead = new Bulkhead(properties.getBulkhead().getMaxConcurrentCalls(name));
+        this.circuitBreaker = new CircuitBreaker(name, properties.getCircuitBreaker());
+    }
+}
@@ -6,9 +6,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.constraints.Positive;
+import java.util.List;
 
 @Slf4j
 @Validated
@@ -19,31 +21,40 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         log.info("Получен запрос на добавление пользователя");
         return userClient.getAllUsers();
     }
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> createUser(@RequestBody UserDto userDto) {
         log.info("Получен запрос на добавление пользователя");
         return userClient.addNewUser(userDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> createUsers(
+            @RequestBody List<UserDto> userDtoList,
+            @RequestParam(defaultValue = "ATOMIC") String mode
+    ) {
+        log.info("Получен запрос на пакетное добавление пользователей. Количество: " + userDtoList.size());
+        return userClient.addNewUsers(userDtoList, mode);
+    }
+
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@RequestBody UserDto userDto, @Positive @PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> updateUser(@RequestBody UserDto userDto, @Positive @PathVariable Long userId) {
         log.info("Получен запрос на обновление пользователя с ID " + userId);
         return userClient.updateUser(userDto, userId);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUserById(@Positive @PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> getUserById(@Positive @PathVariable Long userId) {
         log.info("Получен запрос на отправку пользователя с ID " + userId);
         return userClient.getUserById(userId);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> deleteUserById(@Positive @PathVariable Long userId) {
+    public Mono<ResponseEntity<Object>> deleteUserById(@Positive @PathVariable Long userId) {
         log.info("Получен запрос на удаление пользователя с ID " + userId);
         return userClient.deleteUserById(userId);
     }
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.loadtest;
+
+public enum ArrivalMode {
+    CLOSED,
+    OPEN
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class GatewayConcurrencyBenchmark {
+    private static final String ENDPOINT = "GET /users";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String ROW_FORMAT = "%-10s %10s %10s %8s %10s %10s %10s%n";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        List<Integer> levels = config.getConcurrencyLevels();
+        int maxConcurrency = levels.stream().mapToInt(Integer::intValue).max().orElse(1);
+        String upstreamUrl = "http://localhost:" + config.getUpstreamPort();
+
+        System.out.printf("Задержка сервера: %d мс, потоков Tomcat в шлюзе: %d%n",
+                config.getUpstreamDelay().toMillis(), config.getTomcatThreads());
+        System.out.println("Ограничение частоты и защита сервера в шлюзе выключены: измеряется только " +
+                "масштабирование по числу одновременных запросов");
+        System.out.printf(ROW_FORMAT,
+                "Режим", "Параллельн", "Запросов", "Ошибок", "запр/с", "p50, мс", "p99, мс");
+
+        try (SlowUpstream upstream = new SlowUpstream(config.getUpstreamPort(), config.getUpstreamDelay())) {
+            upstream.start();
+            for (String mode : config.getGatewayModes()) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                ShareItApi api = new ShareItApi(config.getGatewayUrl(), recorder);
+                ServiceLauncher launcher = new ServiceLauncher(config, api);
+                try {
+                    List<String> arguments = new ArrayList<>(ServiceLauncher.WITHOUT_GATEWAY_LIMITS);
+                    arguments.addAll(List.of(
+                            "--shareit-server.pool.mode=" + mode,
+                            "--shareit-server.pool.max-total=" + maxConcurrency,
+                            "--shareit-server.pool.max-per-route=" + maxConcurrency,
+                            "--shareit-server.cache.enabled=false",
+                            "--server.tomcat.threads.max=" + config.getTomcatThreads(),
+                            "--logging.level.root=WARN"
+                    ));
+                    launcher.startGateway(upstreamUrl, arguments);
+                    HttpClient client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(TIMEOUT)
+                            .build();
+                    for (int concurrency : levels) {
+                        run(client, config, recorder, concurrency, config.getWarmup());
+                        recorder.start();
+                        long started = System.nanoTime();
+                        run(client, config, recorder, concurrency, config.getDuration());
+                        recorder.stop();
+                        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+                        printRow(mode, concurrency, recorder.snapshot().get(ENDPOINT), seconds);
+                    }
+                } finally {
+                    launcher.close();
+                }
+            }
+        }
+    }
+
+    private static void run(
+            HttpClient client,
+            LoadTestConfig config,
+            LatencyRecorder recorder,
+            int concurrency,
+            Duration duration
+    ) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getGatewayUrl() + "/users"))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sendUntil(client, request, recorder, deadline, finished);
+        }
+        finished.await(duration.toMillis() + TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void sendUntil(
+            HttpClient client,
+            HttpRequest request,
+            LatencyRecorder recorder,
+            long deadline,
+            CountDownLatch finished
+    ) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        long started = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    recorder.record(ENDPOINT, started, error == null && response.statusCode() == 200);
+                    sendUntil(client, request, recorder, deadline, finished);
+                });
+    }
+
+    private static void printRow(String mode, int concurrency, LatencyRecorder.EndpointStats stats, double seconds) {
+        if (stats == null) {
+            System.out.printf(ROW_FORMAT, mode, concurrency, 0, 0, "0.0", "-", "-");
+            return;
+        }
+        Histogram histogram = stats.getHistogram();
+        System.out.printf(ROW_FORMAT,
+                mode,
+                concurrency,
+                histogram.getTotalCount(),
+                stats.getErrors(),
+                String.format("%.1f", histogram.getTotalCount() / seconds),
+                String.format("%.2f", histogram.getValueAtPercentile(50) / 1000.0),
+                String.format("%.2f", histogram.getValueAtPercentile(99) / 1000.0));
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+    private final Workload workload;
+    private final LoadTestConfig config;
+
+    public LoadGenerator(Workload workload, LoadTestConfig config) {
+        this.workload = workload;
+        this.config = config;
+    }
+
+    public void run(Duration duration) throws InterruptedException {
+        if (config.getArrivalMode() == ArrivalMode.OPEN) {
+            runOpenLoop(duration);
+        } else {
+            runClosedLoop(duration);
+        }
+    }
+
+    private void runClosedLoop(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    workload.runNext(System.nanoTime());
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private void runOpenLoop(Duration duration) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * interval;
+            if (intendedStart >= deadline) {
+                break;
+            }
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            workers.execute(() -> workload.runNext(intendedStart));
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.Duration;
+
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        LatencyRecorder recorder = new LatencyRecorder();
+        ShareItApi api = new ShareItApi(config.getGatewayUrl(), recorder);
+
+        ServiceLauncher launcher = new ServiceLauncher(config, api);
+        try {
+            if (config.isStartServices()) {
+                launcher.start();
+            }
+            Workload workload = new Workload(api, config.getWeights());
+            workload.seed(config.getSeedUsers(), config.getSeedItems());
+            LoadGenerator generator = new LoadGenerator(workload, config);
+
+            System.out.println("Прогрев: " + config.getWarmup());
+            generator.run(config.getWarmup());
+
+            System.out.println("Измерение: " + config.getDuration());
+            recorder.start();
+            long started = System.nanoTime();
+            generator.run(config.getDuration());
+            recorder.stop();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            Report.print(config, elapsed, recorder.snapshot());
+        } finally {
+            launcher.close();
+        }
+    }
+}
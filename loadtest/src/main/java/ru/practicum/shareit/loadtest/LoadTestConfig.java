@@ -0,0 +1,128 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LoadTestConfig {
+    private static final String DEFAULT_WEIGHTS =
+            "createUser=5,createItem=10,book=25,approve=15,search=30,ownerBookings=15";
+
+    private final Map<String, String> values;
+
+    private LoadTestConfig(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestConfig from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Ожидается параметр вида --name=value, передано: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(values);
+    }
+
+    public boolean isStartServices() {
+        return Boolean.parseBoolean(get("start-services", "true"));
+    }
+
+    public boolean isGatewayLimits() {
+        return Boolean.parseBoolean(get("gateway-limits", "true"));
+    }
+
+    public String getServerJar() {
+        return get("server-jar", "server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar");
+    }
+
+    public String getGatewayJar() {
+        return get("gateway-jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT-exec.jar");
+    }
+
+    public int getServerPort() {
+        return Integer.parseInt(get("server-port", "9090"));
+    }
+
+    public int getGatewayPort() {
+        return Integer.parseInt(get("gateway-port", "8080"));
+    }
+
+    public String getGatewayUrl() {
+        return get("gateway-url", "http://localhost:" + getGatewayPort());
+    }
+
+    public String getLogDir() {
+        return get("log-dir", "loadtest/target/logs");
+    }
+
+    public ArrivalMode getArrivalMode() {
+        return ArrivalMode.valueOf(get("arrival", "CLOSED").toUpperCase());
+    }
+
+    public int getConcurrency() {
+        return Integer.parseInt(get("concurrency", "32"));
+    }
+
+    public int getRate() {
+        return Integer.parseInt(get("rate", "200"));
+    }
+
+    public Duration getWarmup() {
+        return Duration.parse(get("warmup", "PT10S"));
+    }
+
+    public Duration getDuration() {
+        return Duration.parse(get("duration", "PT60S"));
+    }
+
+    public int getSeedUsers() {
+        return Integer.parseInt(get("seed-users", "50"));
+    }
+
+    public int getSeedItems() {
+        return Integer.parseInt(get("seed-items", "500"));
+    }
+
+    public Map<Scenario, Integer> getWeights() {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String pair : get("weights", DEFAULT_WEIGHTS).split(",")) {
+            String[] parts = pair.trim().split("=");
+            weights.put(Scenario.fromKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    public int getUpstreamPort() {
+        return Integer.parseInt(get("upstream-port", "9095"));
+    }
+
+    public Duration getUpstreamDelay() {
+        return Duration.parse(get("upstream-delay", "PT0.2S"));
+    }
+
+    public List<Integer> getConcurrencyLevels() {
+        List<Integer> levels = new ArrayList<>();
+        for (String level : get("concurrency-levels", "50,200,1000,2000").split(",")) {
+            levels.add(Integer.parseInt(level.trim()));
+        }
+        return levels;
+    }
+
+    public List<String> getGatewayModes() {
+        return List.of(get("modes", "BLOCKING,REACTIVE").toUpperCase().split(","));
+    }
+
+    public int getTomcatThreads() {
+        return Integer.parseInt(get("tomcat-threads", "50"));
+    }
+
+    private String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+}
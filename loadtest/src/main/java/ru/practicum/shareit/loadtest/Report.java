@@ -0,0 +1,61 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+public class Report {
+    private static final String ROW_FORMAT = "%-22s %10s %8s %10s %10s %10s %10s %10s%n";
+
+    public static void print(
+            LoadTestConfig config,
+            Duration elapsed,
+            Map<String, LatencyRecorder.EndpointStats> stats
+    ) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        System.out.println();
+        System.out.printf("Режим: %s, параллельность: %d%s, длительность: %.1f с%n",
+                config.getArrivalMode(),
+                config.getConcurrency(),
+                config.getArrivalMode() == ArrivalMode.OPEN ? ", интенсивность: " + config.getRate() + " запр/с" : "",
+                seconds);
+        System.out.println(config.isGatewayLimits()
+                ? "Ограничение частоты и защита сервера в шлюзе: включены, как в рабочей конфигурации"
+                : "Ограничение частоты и защита сервера в шлюзе: ВЫКЛЮЧЕНЫ (--gateway-limits=false)");
+        System.out.printf(ROW_FORMAT,
+                "Эндпоинт", "Запросов", "Ошибок", "запр/с", "p50, мс", "p99, мс", "p99.9, мс", "max, мс");
+
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Map.Entry<String, LatencyRecorder.EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().getHistogram().copy();
+            printRow(entry.getKey(), histogram, entry.getValue().getErrors(), seconds);
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            totalErrors += entry.getValue().getErrors();
+        }
+        if (total != null) {
+            printRow("Итого", total, totalErrors, seconds);
+        }
+    }
+
+    private static void printRow(String endpoint, Histogram histogram, long errors, double seconds) {
+        System.out.printf(ROW_FORMAT,
+                endpoint,
+                histogram.getTotalCount(),
+                errors,
+                String.format("%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.loadtest;
+
+public enum Scenario {
+    CREATE_USER("createUser"),
+    CREATE_ITEM("createItem"),
+    BOOK("book"),
+    APPROVE("approve"),
+    SEARCH("search"),
+    OWNER_BOOKINGS("ownerBookings");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный сценарий: " + key);
+    }
+}
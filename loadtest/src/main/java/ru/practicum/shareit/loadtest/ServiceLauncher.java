@@ -0,0 +1,100 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ServiceLauncher implements AutoCloseable {
+    public static final List<String> WITHOUT_GATEWAY_LIMITS = List.of(
+            "--shareit.rate-limit.enabled=false",
+            "--shareit-server.resilience.enabled=false"
+    );
+
+    private static final long START_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    private final LoadTestConfig config;
+    private final ShareItApi api;
+    private final List<Process> processes = new ArrayList<>();
+
+    public ServiceLauncher(LoadTestConfig config, ShareItApi api) {
+        this.config = config;
+        this.api = api;
+    }
+
+    public void start() throws IOException, InterruptedException {
+        Path logDir = Paths.get(config.getLogDir());
+        Files.createDirectories(logDir);
+        String serverUrl = "http://localhost:" + config.getServerPort();
+        launch("server", config.getServerJar(), logDir, serverUrl, List.of(
+                "--server.port=" + config.getServerPort(),
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password="
+        ));
+        startGateway(serverUrl, config.isGatewayLimits() ? List.of() : WITHOUT_GATEWAY_LIMITS);
+    }
+
+    public void startGateway(String serverUrl, List<String> extraArguments) throws IOException, InterruptedException {
+        Path logDir = Paths.get(config.getLogDir());
+        Files.createDirectories(logDir);
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=" + config.getGatewayPort(),
+                "--shareit-server.url=" + serverUrl,
+                "--logging.level.org.springframework.web.client.RestTemplate=INFO"
+        ));
+        arguments.addAll(extraArguments);
+        launch("gateway", config.getGatewayJar(), logDir, config.getGatewayUrl(), arguments);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void launch(
+            String name,
+            String jar,
+            Path logDir,
+            String url,
+            List<String> arguments
+    ) throws IOException, InterruptedException {
+        if (!new File(jar).isFile()) {
+            throw new IllegalStateException("Не найден jar-файл " + name + ": " + jar +
+                    ". Соберите проект командой mvn package -DskipTests");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(arguments);
+        File log = logDir.resolve(name + ".log").toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        processes.add(process);
+        System.out.println("Запущен " + name + ", лог: " + log);
+
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+        while (!api.isHealthy(url)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " завершился при запуске, подробности в " + log);
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(name + " не запустился за отведенное время, подробности в " + log);
+            }
+            Thread.sleep(500);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class ShareItApi {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    public ShareItApi(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public Long createUser(long number, long intendedStart) {
+        Map<String, Object> body = Map.of(
+                "name", "Нагрузочный пользователь " + number,
+                "email", "load" + number + "-" + System.nanoTime() + "@shareit.ru"
+        );
+        return id(send("POST /users", post("/users", null, body), intendedStart));
+    }
+
+    public Long createItem(long ownerId, String name, String description, long intendedStart) {
+        Map<String, Object> body = Map.of(
+                "name", name,
+                "description", description,
+                "available", true
+        );
+        return id(send("POST /items", post("/items", ownerId, body), intendedStart));
+    }
+
+    public Long createBooking(
+            String endpoint,
+            long bookerId,
+            long itemId,
+            LocalDateTime start,
+            LocalDateTime end,
+            long intendedStart
+    ) {
+        Map<String, Object> body = Map.of(
+                "itemId", itemId,
+                "start", start,
+                "end", end
+        );
+        return id(send(endpoint, post("/bookings", bookerId, body), intendedStart));
+    }
+
+    public void approveBooking(long ownerId, long bookingId, long intendedStart) {
+        HttpRequest request = builder("/bookings/" + bookingId + "?approved=true", ownerId)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        send("PATCH /bookings/{id}", request, intendedStart);
+    }
+
+    public void searchItems(long userId, String text, long intendedStart) {
+        String query = URLEncoder.encode(text, StandardCharsets.UTF_8);
+        send("GET /items/search", builder("/items/search?text=" + query, userId).GET().build(), intendedStart);
+    }
+
+    public void getOwnerBookings(long ownerId, long intendedStart) {
+        send("GET /bookings/owner", builder("/bookings/owner?state=ALL", ownerId).GET().build(), intendedStart);
+    }
+
+    public boolean isHealthy(String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/actuator/health"))
+                    .timeout(Duration.ofSeconds(2))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest post(String path, Long userId, Object body) {
+        try {
+            return builder(path, userId)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException("Не удалось сериализовать тело запроса", e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+        if (userId != null) {
+            builder.header(USER_HEADER, String.valueOf(userId));
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, long intendedStart) {
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, intendedStart, response.statusCode() < 400);
+            return response;
+        } catch (Exception e) {
+            recorder.record(endpoint, intendedStart, false);
+            return null;
+        }
+    }
+
+    private Long id(HttpResponse<byte[]> response) {
+        if (response == null || response.statusCode() >= 400) {
+            return null;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).get("id");
+            return id != null ? id.asLong() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class SlowUpstream implements AutoCloseable {
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+
+    public SlowUpstream(int port, Duration delay) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/", exchange -> scheduler.schedule(
+                () -> respond(exchange),
+                delay.toMillis(),
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange) {
+        try (OutputStream body = exchange.getResponseBody()) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            body.write(BODY);
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package ru.practicum.shareit.loadtest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Workload {
+    private static final String[] NAMES = {
+            "Дрель", "Перфоратор", "Шуруповерт", "Лестница", "Палатка",
+            "Велосипед", "Самокат", "Пила", "Фотоаппарат", "Граммофон"
+    };
+    private static final String[] DETAILS = {
+            "аккумуляторный", "профессиональный", "складной", "ударный", "компактный"
+    };
+
+    private final ShareItApi api;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final List<Long> users = new ArrayList<>();
+    private final List<ItemRef> items = new ArrayList<>();
+    private final Queue<BookingRef> waitingBookings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong userNumber = new AtomicLong();
+    private final AtomicLong bookingSlot = new AtomicLong();
+    private final LocalDateTime bookingEpoch = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    public Workload(ShareItApi api, Map<Scenario, Integer> weights) {
+        this.api = api;
+        this.scenarios = weights.keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public void seed(int userCount, int itemCount) {
+        for (int i = 0; i < userCount; i++) {
+            createUser(System.nanoTime());
+        }
+        if (users.size() < 2) {
+            throw new IllegalStateException("Для нагрузочного теста нужно минимум два пользователя, создано: " +
+                    users.size());
+        }
+        for (int i = 0; i < itemCount; i++) {
+            createItem(System.nanoTime());
+        }
+        if (items.isEmpty()) {
+            throw new IllegalStateException("Не удалось создать вещи для нагрузочного теста");
+        }
+    }
+
+    public void runNext(long intendedStart) {
+        Scenario scenario = nextScenario();
+        switch (scenario) {
+            case CREATE_USER:
+                createUser(intendedStart);
+                break;
+            case CREATE_ITEM:
+                createItem(intendedStart);
+                break;
+            case BOOK:
+                book("POST /bookings", intendedStart);
+                break;
+            case APPROVE:
+                approve(intendedStart);
+                break;
+            case SEARCH:
+                api.searchItems(randomUser(), randomName().toLowerCase(), intendedStart);
+                break;
+            case OWNER_BOOKINGS:
+                api.getOwnerBookings(randomItem().ownerId, intendedStart);
+                break;
+            default:
+                throw new IllegalStateException("Неизвестный сценарий: " + scenario);
+        }
+    }
+
+    private Scenario nextScenario() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private void createUser(long intendedStart) {
+        Long userId = api.createUser(userNumber.incrementAndGet(), intendedStart);
+        if (userId != null) {
+            synchronized (users) {
+                users.add(userId);
+            }
+        }
+    }
+
+    private void createItem(long intendedStart) {
+        long ownerId = randomUser();
+        String name = randomName();
+        String description = DETAILS[ThreadLocalRandom.current().nextInt(DETAILS.length)] + " " +
+                name.toLowerCase() + ", в хорошем состоянии";
+        Long itemId = api.createItem(ownerId, name, description, intendedStart);
+        if (itemId != null) {
+            synchronized (items) {
+                items.add(new ItemRef(itemId, ownerId));
+            }
+        }
+    }
+
+    private void book(String endpoint, long intendedStart) {
+        ItemRef item = randomItem();
+        long bookerId = randomUser();
+        while (bookerId == item.ownerId) {
+            bookerId = randomUser();
+        }
+        LocalDateTime start = bookingEpoch.plusHours(bookingSlot.getAndIncrement() * 2);
+        Long bookingId = api.createBooking(endpoint, bookerId, item.itemId, start, start.plusHours(1), intendedStart);
+        if (bookingId != null) {
+            waitingBookings.add(new BookingRef(bookingId, item.ownerId));
+        }
+    }
+
+    private void approve(long intendedStart) {
+        BookingRef booking = waitingBookings.poll();
+        if (booking == null) {
+            book("POST /bookings (APPROVE без ожидающих бронирований)", intendedStart);
+            return;
+        }
+        api.approveBooking(booking.ownerId, booking.bookingId, intendedStart);
+    }
+
+    private long randomUser() {
+        synchronized (users) {
+            return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        }
+    }
+
+    private ItemRef randomItem() {
+        synchronized (items) {
+            return items.get(ThreadLocalRandom.current().nextInt(items.size()));
+        }
+    }
+
+    private String randomName() {
+        return NAMES[ThreadLocalRandom.current().nextInt(NAMES.length)];
+    }
+
+    private static class ItemRef {
+        private final long itemId;
+        private final long ownerId;
+
+        private ItemRef(long itemId, long ownerId) {
+            this.itemId = itemId;
+            this.ownerId = ownerId;
+        }
+    }
+
+    private static class BookingRef {
+        private final long bookingId;
+        private final long ownerId;
+
+        private BookingRef(long bookingId, long ownerId) {
+            this.bookingId = bookingId;
+            this.ownerId = ownerId;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.batch;
+
+public enum BatchMode {
+    ATOMIC,
+    PARTIAL
+}
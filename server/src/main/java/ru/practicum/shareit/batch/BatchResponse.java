@@ -0,0 +1,16 @@
+package ru.practicum.shareit.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResponse<T> {
+    private int created;
+    private int failed;
+    private List<BatchRowResult<T>> rows;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchRowResult<T> {
+    private int index;
+    private T result;
+    private String error;
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.exceptions.model.AlreadyExistsException;
+import ru.practicum.shareit.exceptions.model.NotFoundException;
+import ru.practicum.shareit.exceptions.model.ValidationException;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+public class BatchRows<E> {
+    private final BatchMode mode;
+    private final int size;
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<E> entities = new ArrayList<>();
+    private final Map<Integer, String> errors = new HashMap<>();
+
+    private BatchRows(BatchMode mode, int size) {
+        this.mode = mode;
+        this.size = size;
+    }
+
+    public static <D, E> BatchRows<E> prepare(List<D> rows, BatchMode mode, Function<D, E> preparer) {
+        BatchRows<E> batchRows = new BatchRows<>(mode, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            int index = i;
+            batchRows.accept(index, () -> preparer.apply(rows.get(index)));
+        }
+        return batchRows;
+    }
+
+    public List<E> getEntities() {
+        return entities;
+    }
+
+    public void reject(E entity, RuntimeException e) {
+        int position = entities.indexOf(entity);
+        int index = indexes.get(position);
+        fail(index, e);
+        indexes.remove(position);
+        entities.remove(position);
+    }
+
+    public <T> BatchResponse<T> toResponse(List<E> saved, Function<E, T> mapper) {
+        List<BatchRowResult<T>> results = new ArrayList<>();
+        int savedPosition = 0;
+        for (int i = 0; i < size; i++) {
+            String error = errors.get(i);
+            if (error != null) {
+                results.add(new BatchRowResult<>(i, null, error));
+            } else {
+                results.add(new BatchRowResult<>(i, mapper.apply(saved.get(savedPosition++)), null));
+            }
+        }
+        return new BatchResponse<>(saved.size(), errors.size(), results);
+    }
+
+    private void accept(int index, Supplier<E> preparer) {
+        try {
+            E entity = preparer.get();
+            indexes.add(index);
+            entities.add(entity);
+        } catch (ValidationException | NotFoundException | AlreadyExistsException | EntityNotFoundException e) {
+            fail(index, e);
+        }
+    }
+
+    private void fail(int index, RuntimeException e) {
+        if (mode == BatchMode.ATOMIC) {
+            log.warn("Пакетная операция отменена из-за ошибки в строке " + index);
+            throw e;
+        }
+        errors.put(index, e.getMessage());
+    }
+}
@@ -2,12 +2,19 @@ package ru.practicum.shareit.booking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusResult;
+import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.service.BookingService;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -26,12 +33,27 @@ public class BookingController {
         return bookingService.createBooking(bookingDtoRequest, bookerId);
     }
 
+    @PostMapping("/batch")
+    public BatchResponse<BookingDtoResponse> createBookings(
+            @RequestBody List<BookingDtoRequest> bookingDtoRequestList,
+            @RequestParam(defaultValue = "ATOMIC") BatchMode mode,
+            @RequestHeader("X-Sharer-User-Id") Long bookerId
+    ) {
+        log.info("Получен запрос на пакетное создание бронирований от пользвателя с ID: " + bookerId +
+                ". Количество: " + bookingDtoRequestList.size());
+        return bookingService.createBookings(bookingDtoRequestList, bookerId, mode);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDtoResponse getBookingById(
             @PathVariable Long bookingId,
-            @RequestHeader("X-Sharer-User-Id") Long userId
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            WebRequest webRequest
     ) {
         log.info("Получен запрос на формирование бронирования от пользвателя с ID: " + userId);
+        if (webRequest.checkNotModified(bookingService.getBookingETag(bookingId, userId))) {
+            return null;
+        }
         return bookingService.getBookingDtoById(bookingId, userId);
     }
 
@@ -46,25 +68,56 @@ public class BookingController {
         return bookingService.updateBookingStatus(bookingId, userId, approved);
     }
 
+    @PatchMapping("/batch")
+    public List<BookingStatusResult> updateBookingStatuses(
+            @RequestParam String approved,
+            @RequestBody List<Long> bookingIdList,
+            @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        log.info("Получен запрос на пакетное обновление статуса бронирований. Параметр обновления: " + approved +
+                ". Количество: " + bookingIdList.size() + ". Запрос получен от пользователя с ID: " + userId);
+        return bookingService.updateBookingStatuses(bookingIdList, userId, approved);
+    }
+
     @GetMapping
-    public List<BookingDtoResponse> getAllBookingsForUser(
+    public ResponseEntity<List<BookingDtoResponse>> getAllBookingsForUser(
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос для формирования списка бронирований пользователя с ID: " + userId);
-        return bookingService.getAllBookingsForUser(state, userId, from, size);
+        if (cursor != null) {
+            return bookingService.getAllBookingsForUser(state, userId, cursor, size).toResponseEntity();
+        }
+        return ResponseEntity.ok(bookingService.getAllBookingsForUser(state, userId, from, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingDtoResponse> getAllBookingsForOwner(
+    public ResponseEntity<List<BookingDtoResponse>> getAllBookingsForOwner(
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос на формирование списка бронирований для вещей владельца с ID " + userId);
-        return bookingService.getAllBookingsForOwner(state, userId, from, size);
+        if (cursor != null) {
+            return bookingService.getAllBookingsForOwner(state, userId, cursor, size).toResponseEntity();
+        }
+        return ResponseEntity.ok(bookingService.getAllBookingsForOwner(state, userId, from, size));
+    }
+
+    @GetMapping("/counts")
+    public Map<State, Long> countBookingsForUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Получен запрос на подсчет бронирований по состояниям для пользователя с ID: " + userId);
+        return bookingService.countBookingsForUser(userId);
+    }
+
+    @GetMapping("/owner/counts")
+    public Map<State, Long> countBookingsForOwner(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Получен запрос на подсчет бронирований по состояниям для вещей владельца с ID: " + userId);
+        return bookingService.countBookingsForOwner(userId);
     }
 }
@@ -3,8 +3,6 @@ package ru.practicum.shareit.booking.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import ru.practicum.shareit.booking.model.Status;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 
@@ -14,7 +12,19 @@ public class BookingDtoResponse {
     private Long id;
     private LocalDateTime start;
     private LocalDateTime end;
-    private Item item;
-    private User booker;
+    private BookingItemDto item;
+    private BookingBookerDto booker;
     private Status status;
+
+    public BookingDtoResponse(
+            Long id,
+            LocalDateTime start,
+            LocalDateTime end,
+            Long itemId,
+            String itemName,
+            Long bookerId,
+            Status status
+    ) {
+        this(id, start, end, new BookingItemDto(itemId, itemName), new BookingBookerDto(bookerId), status);
+    }
 }
@@ -17,7 +17,8 @@ public class BookingMapper {
                 bookingDtoRequest.getEnd(),
                 item,
                 booker,
-                Status.WAITING
+                Status.WAITING,
+                null
         );
     }
 
@@ -26,8 +27,9 @@ public class BookingMapper {
                 booking.getId(),
                 booking.getStart(),
                 booking.getEnd(),
-                booking.getItem(),
-                booking.getBooker(),
+                booking.getItem().getId(),
+                booking.getItem().getName(),
+                booking.getBooker().getId(),
                 booking.getStatus()
         );
     }
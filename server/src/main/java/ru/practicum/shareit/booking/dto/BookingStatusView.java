@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.model.Status;
+
+public interface BookingStatusView {
+    Long getId();
+
+    Status getStatus();
+
+    Long getItemId();
+
+    Long getOwnerId();
+}
@@ -1,27 +1,56 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingStatusResult;
+import ru.practicum.shareit.booking.dto.BookingSummary;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.pagination.CursorPage;
 
 import java.util.List;
+import java.util.Map;
 
 public interface BookingService {
     BookingDtoResponse createBooking(BookingDtoRequest bookingDtoRequest, Long bookerId);
 
+    BatchResponse<BookingDtoResponse> createBookings(
+            List<BookingDtoRequest> bookingDtoRequestList,
+            Long bookerId,
+            BatchMode mode
+    );
+
     Booking getBookingById(Long bookingId, Long userId);
 
     BookingDtoResponse getBookingDtoById(Long bookingId, Long userId);
 
+    String getBookingETag(Long bookingId, Long userId);
+
     BookingDtoResponse updateBookingStatus(Long bookingId, Long userId, String status);
 
+    List<BookingStatusResult> updateBookingStatuses(List<Long> bookingIdList, Long userId, String approved);
+
     List<BookingDtoResponse> getAllBookingsForUser(String state, Long userId, int from, int size);
 
+    CursorPage<BookingDtoResponse> getAllBookingsForUser(String state, Long userId, String cursor, int size);
+
     List<BookingDtoResponse> getAllBookingsForOwner(String stateString, Long userId, int from, int size);
 
+    CursorPage<BookingDtoResponse> getAllBookingsForOwner(String stateString, Long userId, String cursor, int size);
+
+    Map<State, Long> countBookingsForUser(Long userId);
+
+    Map<State, Long> countBookingsForOwner(Long userId);
+
     Booking getLastBooking(Long ownerId);
 
     Booking getNextBooking(Long ownerId);
 
+    List<BookingSummary> getLastAndNextBookings(List<Long> itemIdList);
+
+    long countStartedBookings(Long itemId);
+
     List<Booking> getBookingByItemIdAndBookerId(Long bookerId, Long itemId);
 }
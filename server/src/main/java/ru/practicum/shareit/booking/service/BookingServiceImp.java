@@ -5,53 +5,120 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
+import ru.practicum.shareit.batch.BatchRows;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingStatusResult;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
+import ru.practicum.shareit.booking.dto.BookingSummary;
+import ru.practicum.shareit.booking.dto.BookingVersionView;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.storage.BookingQuery;
 import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.exceptions.model.AlreadyExistsException;
 import ru.practicum.shareit.exceptions.model.NotFoundException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
+import ru.practicum.shareit.item.card.ItemCardCache;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetBasedPageRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Primary
 @Service
 public class BookingServiceImp implements BookingService {
+    private static final List<Status> BLOCKING_STATUSES = List.of(Status.WAITING, Status.APPROVED);
+
     @Autowired
     private BookingStorage bookingStorage;
     @Autowired
     private UserStorage userStorage;
     @Autowired
     private ItemStorage itemStorage;
+    @Autowired
+    private ItemCardCache itemCardCache;
 
     @Override
     @Transactional
     public BookingDtoResponse createBooking(BookingDtoRequest bookingDtoRequest, Long bookerId) {
+        Item item = itemStorage.findByIdForUpdate(bookingDtoRequest.getItemId())
+                .orElseThrow(() -> new NotFoundException(
+                        "Вещь с ID " + bookingDtoRequest.getItemId() + " не найдена"
+                ));
         Booking booking = BookingMapper.toBooking(
                 bookingDtoRequest,
-                itemStorage.getById(bookingDtoRequest.getItemId()),
+                item,
                 userStorage.getById(bookerId)
         );
         checkAvailableItem(booking);
         checkBooker(booking);
-        checkStartInPast(booking);
-        checkEndInPast(booking);
-        checkEndBeforeStart(booking);
-        checkItemIdAndBookerId(booking);
-        return BookingMapper.toBookingDtoResponse(bookingStorage.save(booking));
+        checkBooking(booking);
+        Booking newBooking = bookingStorage.save(booking);
+        itemCardCache.invalidateAfterCommit(item.getId());
+        return BookingMapper.toBookingDtoResponse(newBooking);
+    }
+
+    @Override
+    @Transactional
+    public BatchResponse<BookingDtoResponse> createBookings(
+            List<BookingDtoRequest> bookingDtoRequestList,
+            Long bookerId,
+            BatchMode mode
+    ) {
+        User booker = userStorage.getById(bookerId);
+        checkUser(booker);
+        TreeSet<Long> itemIdSet = new TreeSet<>();
+        for (BookingDtoRequest bookingDtoRequest : bookingDtoRequestList) {
+            if (bookingDtoRequest.getItemId() != null) {
+                itemIdSet.add(bookingDtoRequest.getItemId());
+            }
+        }
+        Map<Long, Item> lockedItems = new HashMap<>();
+        for (Long itemId : itemIdSet) {
+            itemStorage.findByIdForUpdate(itemId).ifPresent(item -> lockedItems.put(itemId, item));
+        }
+        BatchRows<Booking> rows = BatchRows.prepare(bookingDtoRequestList, mode, bookingDtoRequest -> {
+            Item item = lockedItems.get(bookingDtoRequest.getItemId());
+            if (item == null) {
+                throw new NotFoundException("Вещь с ID " + bookingDtoRequest.getItemId() + " не найдена");
+            }
+            Booking booking = BookingMapper.toBooking(bookingDtoRequest, item, booker);
+            checkAvailableItem(booking);
+            checkBooking(booking);
+            return booking;
+        });
+        checkOverlapInBatch(rows);
+        List<Booking> newBookings = bookingStorage.saveAll(rows.getEntities());
+        for (Long itemId : lockedItems.keySet()) {
+            itemCardCache.invalidateAfterCommit(itemId);
+        }
+        return rows.toResponse(newBookings, BookingMapper::toBookingDtoResponse);
     }
 
     @Override
     public Booking getBookingById(Long bookingId, Long userId) {
-        Booking booking = bookingStorage.getById(bookingId);
+        Booking booking = bookingStorage.findWithItemById(bookingId)
+                .orElseThrow(() -> new NotFoundException("Бронирование с ID " + bookingId + " не найдено"));
         if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getOwner().equals(userId)) {
             throw new NotFoundException(
                     "Попытка получить бронирование пользователем с ID " + userId +
@@ -68,6 +135,24 @@ public class BookingServiceImp implements BookingService {
         return BookingMapper.toBookingDtoResponse(getBookingById(bookingId, userId));
     }
 
+    @Override
+    public String getBookingETag(Long bookingId, Long userId) {
+        BookingVersionView bookingVersion = bookingStorage.findVersionById(bookingId)
+                .orElseThrow(() -> new NotFoundException("Бронирование с ID " + bookingId + " не найдено"));
+        if (!bookingVersion.getBookerId().equals(userId) && !bookingVersion.getOwnerId().equals(userId)) {
+            throw new NotFoundException(
+                    "Попытка получить бронирование пользователем с ID " + userId +
+                            ", не являющегося ни владельцем, ни создателем запроса. " +
+                            "ID владельца " + bookingVersion.getOwnerId() + ". " +
+                            "ID создателя запроса " + bookingVersion.getBookerId()
+            );
+        }
+        return "\"booking-" + bookingId +
+                "-v" + bookingVersion.getBookingVersion() +
+                "-i" + bookingVersion.getItemVersion() +
+                "-u" + bookingVersion.getBookerVersion() + "\"";
+    }
+
     @Override
     @Transactional
     public BookingDtoResponse updateBookingStatus(Long bookingId, Long userId, String approved) {
@@ -87,119 +172,101 @@ public class BookingServiceImp implements BookingService {
         } else {
             booking.setStatus(Status.REJECTED);
         }
+        itemStorage.findByIdForUpdate(booking.getItem().getId());
+        itemCardCache.invalidateAfterCommit(booking.getItem().getId());
         return BookingMapper.toBookingDtoResponse(bookingStorage.save(booking));
     }
 
     @Override
-    public List<BookingDtoResponse> getAllBookingsForUser(String stateString, Long userId, int from, int size) {
-        State state;
-        checkUser(userStorage.getById(userId));
-        checkPageableParameters(from, size);
-        int page = from / size;
-        try {
-            state = State.valueOf(stateString);
-        } catch (RuntimeException e) {
-            throw new ValidationException("Unknown state: " + stateString);
+    @Transactional
+    public List<BookingStatusResult> updateBookingStatuses(List<Long> bookingIdList, Long userId, String approved) {
+        checkUserExists(userId);
+        Status status = Boolean.parseBoolean(approved) ? Status.APPROVED : Status.REJECTED;
+        LinkedHashSet<Long> bookingIdSet = new LinkedHashSet<>(bookingIdList);
+        Map<Long, BookingStatusView> bookingsById = findStatusesById(bookingIdSet);
+        List<Long> waitingIdList = new ArrayList<>();
+        TreeSet<Long> itemIdSet = new TreeSet<>();
+        for (Long bookingId : bookingIdSet) {
+            BookingStatusView booking = bookingsById.get(bookingId);
+            if (booking != null && booking.getOwnerId().equals(userId) && booking.getStatus() == Status.WAITING) {
+                waitingIdList.add(bookingId);
+                itemIdSet.add(booking.getItemId());
+            }
+        }
+        Set<Long> updatedIdSet = new HashSet<>();
+        if (!waitingIdList.isEmpty()) {
+            itemStorage.findAllByIdForUpdate(itemIdSet);
+            int updatedCount = bookingStorage.updateWaitingStatusByIdIn(waitingIdList, userId, status);
+            if (updatedCount == waitingIdList.size()) {
+                updatedIdSet.addAll(waitingIdList);
+            } else {
+                bookingsById.putAll(findStatusesById(waitingIdList));
+                for (Long bookingId : waitingIdList) {
+                    if (bookingsById.get(bookingId).getStatus() == status) {
+                        updatedIdSet.add(bookingId);
+                    }
+                }
+            }
+            for (Long itemId : itemIdSet) {
+                itemCardCache.invalidateAfterCommit(itemId);
+            }
         }
-        List<Booking> bookingList = new ArrayList<>();
-        switch (state) {
-            case ALL:
-                bookingList = bookingStorage.findByBookerIdOrderByIdDesc(userId, PageRequest.of(page, size));
-                break;
-            case WAITING:
-                bookingList = bookingStorage.findByBookerIdAndStatusOrderByIdDesc(
-                        userId,
-                        Status.WAITING,
-                        PageRequest.of(page, size)
-                );
-                break;
-            case REJECTED:
-                bookingList = bookingStorage.findByBookerIdAndStatusOrderByIdDesc(
-                        userId,
-                        Status.REJECTED,
-                        PageRequest.of(page, size)
-                );
-                break;
-            case PAST:
-                bookingList = bookingStorage.findByBookerIdAndEndIsBeforeOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
-            case FUTURE:
-                bookingList = bookingStorage.findByBookerIdAndStartIsAfterOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
-            case CURRENT:
-                bookingList = bookingStorage.findByBookerIdAndStartIsBeforeAndEndIsAfterOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
+        List<BookingStatusResult> results = new ArrayList<>();
+        for (Long bookingId : bookingIdSet) {
+            BookingStatusView booking = bookingsById.get(bookingId);
+            if (booking == null || !booking.getOwnerId().equals(userId)) {
+                results.add(new BookingStatusResult(bookingId, null, "Бронирование с ID " + bookingId +
+                        " не найдено среди бронирований вещей пользователя с ID " + userId));
+            } else if (updatedIdSet.contains(bookingId)) {
+                results.add(new BookingStatusResult(bookingId, status, null));
+            } else if (status == Status.APPROVED && booking.getStatus() == Status.APPROVED) {
+                results.add(new BookingStatusResult(bookingId, booking.getStatus(), "Бронирование уже подтверждено"));
+            } else {
+                results.add(new BookingStatusResult(bookingId, booking.getStatus(),
+                        "Бронирование не ожидает подтверждения, текущий статус: " + booking.getStatus()));
+            }
         }
-        return BookingMapper.toBookingDtoResponseList(bookingList);
+        return results;
+    }
+
+    @Override
+    public List<BookingDtoResponse> getAllBookingsForUser(String stateString, Long userId, int from, int size) {
+        return getBookings(BookingRole.BOOKER, stateString, userId, from, size);
+    }
+
+    @Override
+    public CursorPage<BookingDtoResponse> getAllBookingsForUser(
+            String stateString,
+            Long userId,
+            String cursor,
+            int size
+    ) {
+        return getBookings(BookingRole.BOOKER, stateString, userId, cursor, size);
     }
 
     @Override
     public List<BookingDtoResponse> getAllBookingsForOwner(String stateString, Long userId, int from, int size) {
-        State state;
-        checkUser(userStorage.getById(userId));
-        checkPageableParameters(from, size);
-        int page = from / size;
-        try {
-            state = State.valueOf(stateString);
-        } catch (RuntimeException e) {
-            throw new ValidationException("Unknown state: " + stateString);
-        }
-        List<Booking> bookingList = new ArrayList<>();
-        switch (state) {
-            case ALL:
-                bookingList = bookingStorage.findByItemOwnerOrderByIdDesc(userId, PageRequest.of(page, size));
-                break;
-            case WAITING:
-                bookingList = bookingStorage.findByItemOwnerAndStatusOrderByIdDesc(
-                        userId,
-                        Status.WAITING,
-                        PageRequest.of(page, size)
-                );
-                break;
-            case REJECTED:
-                bookingList = bookingStorage.findByItemOwnerAndStatusOrderByIdDesc(
-                        userId,
-                        Status.REJECTED,
-                        PageRequest.of(page, size)
-                );
-                break;
-            case PAST:
-                bookingList = bookingStorage.findByItemOwnerAndEndIsBeforeOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
-            case FUTURE:
-                bookingList = bookingStorage.findByItemOwnerAndStartIsAfterOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
-            case CURRENT:
-                bookingList = bookingStorage.findByItemOwnerAndStartIsBeforeAndEndIsAfterOrderByIdDesc(
-                        userId,
-                        LocalDateTime.now(),
-                        LocalDateTime.now(),
-                        PageRequest.of(page, size)
-                );
-                break;
-        }
-        return BookingMapper.toBookingDtoResponseList(bookingList);
+        return getBookings(BookingRole.OWNER, stateString, userId, from, size);
+    }
+
+    @Override
+    public CursorPage<BookingDtoResponse> getAllBookingsForOwner(
+            String stateString,
+            Long userId,
+            String cursor,
+            int size
+    ) {
+        return getBookings(BookingRole.OWNER, stateString, userId, cursor, size);
+    }
+
+    @Override
+    public Map<State, Long> countBookingsForUser(Long userId) {
+        return countBookings(BookingRole.BOOKER, userId);
+    }
+
+    @Override
+    public Map<State, Long> countBookingsForOwner(Long userId) {
+        return countBookings(BookingRole.OWNER, userId);
     }
 
     @Override
@@ -212,6 +279,19 @@ public class BookingServiceImp implements BookingService {
         return bookingStorage.findTopByItemIdAndStartIsAfterOrderByStart(itemId, LocalDateTime.now());
     }
 
+    @Override
+    public List<BookingSummary> getLastAndNextBookings(List<Long> itemIdList) {
+        if (itemIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return bookingStorage.findLastAndNextByItemIdIn(itemIdList, LocalDateTime.now());
+    }
+
+    @Override
+    public long countStartedBookings(Long itemId) {
+        return bookingStorage.countByItemIdAndStartBefore(itemId, LocalDateTime.now());
+    }
+
     @Override
     public List<Booking> getBookingByItemIdAndBookerId(Long bookerId, Long itemId) {
         return bookingStorage.findByBookerIdAndItemIdAndStartBeforeAndStatus(
@@ -222,12 +302,110 @@ public class BookingServiceImp implements BookingService {
         );
     }
 
+    private List<BookingDtoResponse> getBookings(
+            BookingRole role,
+            String stateString,
+            Long userId,
+            int from,
+            int size
+    ) {
+        checkUserExists(userId);
+        checkPageableParameters(from, size);
+        BookingQuery query = BookingQuery.builder()
+                .role(role)
+                .userId(userId)
+                .state(toState(stateString))
+                .now(LocalDateTime.now())
+                .build();
+        return bookingStorage.findDtoByQuery(query, OffsetBasedPageRequest.of(from, size));
+    }
+
+    private CursorPage<BookingDtoResponse> getBookings(
+            BookingRole role,
+            String stateString,
+            Long userId,
+            String cursorString,
+            int size
+    ) {
+        checkUserExists(userId);
+        checkPageableParameters(0, size);
+        Cursor cursor = Cursor.decode(cursorString);
+        BookingQuery query = BookingQuery.builder()
+                .role(role)
+                .userId(userId)
+                .state(toState(stateString))
+                .now(LocalDateTime.now())
+                .beforeId(cursor.getId())
+                .build();
+        return CursorPage.of(
+                bookingStorage.findDtoByQuery(query, PageRequest.of(0, size)),
+                size,
+                booking -> Cursor.of(booking.getId())
+        );
+    }
+
+    private Map<State, Long> countBookings(BookingRole role, Long userId) {
+        checkUserExists(userId);
+        BookingQuery query = BookingQuery.builder()
+                .role(role)
+                .userId(userId)
+                .now(LocalDateTime.now())
+                .build();
+        return bookingStorage.countByState(query);
+    }
+
+    private State toState(String stateString) {
+        try {
+            return State.valueOf(stateString);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Unknown state: " + stateString);
+        }
+    }
+
+    private void checkBooking(Booking booking) {
+        checkDates(booking);
+        checkStartInPast(booking);
+        checkEndInPast(booking);
+        checkEndBeforeStart(booking);
+        checkItemIdAndBookerId(booking);
+        checkOverlap(booking);
+    }
+
+    private void checkOverlapInBatch(BatchRows<Booking> rows) {
+        Map<Long, List<Booking>> acceptedByItemId = new HashMap<>();
+        for (Booking booking : new ArrayList<>(rows.getEntities())) {
+            List<Booking> accepted = acceptedByItemId.computeIfAbsent(
+                    booking.getItem().getId(),
+                    id -> new ArrayList<>()
+            );
+            boolean overlaps = false;
+            for (Booking other : accepted) {
+                if (other.getStart().isBefore(booking.getEnd()) && other.getEnd().isAfter(booking.getStart())) {
+                    overlaps = true;
+                    break;
+                }
+            }
+            if (overlaps) {
+                rows.reject(booking, new AlreadyExistsException("Вещь с ID " + booking.getItem().getId() +
+                        " уже забронирована на указанный период"));
+            } else {
+                accepted.add(booking);
+            }
+        }
+    }
+
     private void checkAvailableItem(Booking booking) {
         if (!booking.getItem().getAvailable()) {
             throw new ValidationException("Вещь с ID " + booking.getItem().getId() + " не доступна для бронирования");
         }
     }
 
+    private void checkDates(Booking booking) {
+        if (booking.getStart() == null || booking.getEnd() == null) {
+            throw new ValidationException("Не указаны даты начала и окончания бронирования");
+        }
+    }
+
     private void checkEndInPast(Booking booking) {
         if (booking.getEnd().isBefore(LocalDateTime.now())) {
             throw new ValidationException("Окончание бронирования в прошлом");
@@ -254,12 +432,38 @@ public class BookingServiceImp implements BookingService {
         user.getName();
     }
 
+    private Map<Long, BookingStatusView> findStatusesById(Collection<Long> bookingIds) {
+        Map<Long, BookingStatusView> bookingsById = new HashMap<>();
+        for (BookingStatusView booking : bookingStorage.findStatusByIdIn(bookingIds)) {
+            bookingsById.put(booking.getId(), booking);
+        }
+        return bookingsById;
+    }
+
+    private void checkUserExists(Long userId) {
+        if (userStorage.findById(userId).isEmpty()) {
+            throw new NotFoundException("Пользователь с ID " + userId + " не найден");
+        }
+    }
+
     private void checkItemIdAndBookerId(Booking booking) {
         if (booking.getBooker().getId().equals(booking.getItem().getOwner())) {
             throw new NotFoundException("Создатель бронирования владелец вещи");
         }
     }
 
+    private void checkOverlap(Booking booking) {
+        if (bookingStorage.existsByItemIdAndStatusInAndStartBeforeAndEndAfter(
+                booking.getItem().getId(),
+                BLOCKING_STATUSES,
+                booking.getEnd(),
+                booking.getStart()
+        )) {
+            throw new AlreadyExistsException("Вещь с ID " + booking.getItem().getId() +
+                    " уже забронирована на указанный период");
+        }
+    }
+
     private void checkPageableParameters(int from, int size) {
         if (from < 0) {
             throw new ValidationException("Не верно указано значение первого элемента страницы. " +
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.storage;
+
+import lombok.Builder;
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.State;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class BookingQuery {
+    private final BookingRole role;
+    private final Long userId;
+    @Builder.Default
+    private final State state = State.ALL;
+    private final LocalDateTime now;
+    private final Long beforeId;
+    private final Long itemId;
+    private final LocalDateTime startFrom;
+    private final LocalDateTime endTo;
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.storage;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.model.State;
+
+import java.util.List;
+import java.util.Map;
+
+public interface BookingQueryStorage {
+    List<BookingDtoResponse> findDtoByQuery(BookingQuery query, Pageable pageable);
+
+    Map<State, Long> countByState(BookingQuery query);
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit.booking.storage;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class BookingQueryStorageImpl implements BookingQueryStorage {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingDtoResponse> findDtoByQuery(BookingQuery query, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingDtoResponse> criteriaQuery = cb.createQuery(BookingDtoResponse.class);
+        Root<Booking> booking = criteriaQuery.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+
+        List<Predicate> predicates = toPredicates(query, cb, booking, item);
+        Predicate statePredicate = toStatePredicate(query.getState(), query, cb, booking);
+        if (statePredicate != null) {
+            predicates.add(statePredicate);
+        }
+        criteriaQuery.select(cb.construct(
+                        BookingDtoResponse.class,
+                        booking.get("id"),
+                        booking.get("start"),
+                        booking.get("end"),
+                        item.get("id"),
+                        item.get("name"),
+                        booking.get("booker").get("id"),
+                        booking.get("status")
+                ))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(booking.get("id")));
+
+        return entityManager.createQuery(criteriaQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public Map<State, Long> countByState(BookingQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> criteriaQuery = cb.createQuery(Object[].class);
+        Root<Booking> booking = criteriaQuery.from(Booking.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (State state : State.values()) {
+            Predicate statePredicate = toStatePredicate(state, query, cb, booking);
+            if (statePredicate == null) {
+                selections.add(cb.count(booking));
+            } else {
+                selections.add(cb.sum(cb.<Long>selectCase().when(statePredicate, 1L).otherwise(0L)));
+            }
+        }
+        criteriaQuery.multiselect(selections)
+                .where(toPredicates(query, cb, booking, booking.get("item")).toArray(new Predicate[0]));
+
+        Object[] row = entityManager.createQuery(criteriaQuery).getSingleResult();
+        Map<State, Long> counts = new EnumMap<>(State.class);
+        for (State state : State.values()) {
+            Object count = row[state.ordinal()];
+            counts.put(state, count == null ? 0L : ((Number) count).longValue());
+        }
+        return counts;
+    }
+
+    private List<Predicate> toPredicates(
+            BookingQuery query,
+            CriteriaBuilder cb,
+            Root<Booking> booking,
+            Path<Item> item
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getRole() == BookingRole.OWNER) {
+            predicates.add(cb.equal(item.get("owner"), query.getUserId()));
+        } else {
+            predicates.add(cb.equal(booking.get("booker").get("id"), query.getUserId()));
+        }
+        if (query.getBeforeId() != null) {
+            predicates.add(cb.lessThan(booking.<Long>get("id"), query.getBeforeId()));
+        }
+        if (query.getItemId() != null) {
+            predicates.add(cb.equal(item.get("id"), query.getItemId()));
+        }
+        if (query.getStartFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(booking.<LocalDateTime>get("start"), query.getStartFrom()));
+        }
+        if (query.getEndTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(booking.<LocalDateTime>get("end"), query.getEndTo()));
+        }
+        return predicates;
+    }
+
+    private Predicate toStatePredicate(State state, BookingQuery query, CriteriaBuilder cb, Root<Booking> booking) {
+        switch (state) {
+            case WAITING:
+                return cb.equal(booking.get("status"), Status.WAITING);
+            case REJECTED:
+                return cb.equal(booking.get("status"), Status.REJECTED);
+            case PAST:
+                return cb.lessThan(booking.<LocalDateTime>get("end"), query.getNow());
+            case FUTURE:
+                return cb.greaterThan(booking.<LocalDateTime>get("start"), query.getNow());
+            case CURRENT:
+                return cb.and(
+                        cb.lessThan(booking.<LocalDateTime>get("start"), query.getNow()),
+                        cb.greaterThan(booking.<LocalDateTime>get("end"), query.getNow())
+                );
+            default:
+                return null;
+        }
+    }
+}
@@ -1,48 +1,75 @@
 package ru.practicum.shareit.booking.storage;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingStatusView;
+import ru.practicum.shareit.booking.dto.BookingSummary;
+import ru.practicum.shareit.booking.dto.BookingVersionView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingStorage extends JpaRepository<Booking, Long> {
-    List<Booking> findByBookerIdOrderByIdDesc(Long bookerId, Pageable pageable);
+public interface BookingStorage extends JpaRepository<Booking, Long>, BookingQueryStorage {
+    @Query("select b from Booking b join fetch b.item where b.id = ?1")
+    Optional<Booking> findWithItemById(Long bookingId);
 
-    List<Booking> findByBookerIdAndStatusOrderByIdDesc(Long bookerId, Status status, Pageable pageable);
+    @Query("select b.version as bookingVersion, i.version as itemVersion, u.version as bookerVersion, " +
+            "u.id as bookerId, i.owner as ownerId " +
+            "from Booking b join b.item i join b.booker u where b.id = ?1")
+    Optional<BookingVersionView> findVersionById(Long bookingId);
 
-    List<Booking> findByBookerIdAndEndIsBeforeOrderByIdDesc(Long bookerId, LocalDateTime end, Pageable pageable);
+    @Query("select b.id as id, b.status as status, i.id as itemId, i.owner as ownerId " +
+            "from Booking b join b.item i where b.id in ?1")
+    List<BookingStatusView> findStatusByIdIn(Collection<Long> bookingIds);
 
-    List<Booking> findByBookerIdAndStartIsAfterOrderByIdDesc(Long bookerId, LocalDateTime start, Pageable pageable);
+    @Modifying
+    @Query("update Booking b set b.status = ?3, b.version = b.version + 1 " +
+            "where b.id in ?1 and b.status = ru.practicum.shareit.booking.model.Status.WAITING " +
+            "and b.item.id in (select i.id from Item i where i.owner = ?2)")
+    int updateWaitingStatusByIdIn(Collection<Long> bookingIds, Long ownerId, Status status);
 
-    List<Booking> findByBookerIdAndStartIsBeforeAndEndIsAfterOrderByIdDesc(
-            Long bookerId,
-            LocalDateTime start,
-            LocalDateTime end,
-            Pageable pageable
-    );
+    long countByItemIdAndStartBefore(Long itemId, LocalDateTime start);
 
-    List<Booking> findByItemOwnerOrderByIdDesc(Long ownerId, Pageable pageable);
-
-    List<Booking> findByItemOwnerAndStatusOrderByIdDesc(Long ownerId, Status status, Pageable pageable);
+    Booking findTopByItemIdAndStartIsAfterOrderByStart(Long itemId, LocalDateTime start);
 
-    List<Booking> findByItemOwnerAndEndIsBeforeOrderByIdDesc(Long ownerId, LocalDateTime end, Pageable pageable);
+    Booking findTopByItemIdAndStartIsBeforeOrderByStartDesc(Long itemId, LocalDateTime start);
 
-    List<Booking> findByItemOwnerAndStartIsAfterOrderByIdDesc(Long ownerId, LocalDateTime start, Pageable pageable);
+    @Query(value = "SELECT s.id AS \"id\", s.item_id AS \"itemId\", s.booker_id AS \"bookerId\", " +
+            "s.start_date AS \"start\", s.end_date AS \"end\", s.is_next AS \"next\" " +
+            "FROM (" +
+            "SELECT b.id, b.item_id, b.booker_id, b.start_date, b.end_date, " +
+            "b.start_date > :now AS is_next, " +
+            "ROW_NUMBER() OVER (" +
+            "PARTITION BY b.item_id, b.start_date > :now " +
+            "ORDER BY CASE WHEN b.start_date > :now THEN b.start_date END, b.start_date DESC" +
+            ") AS rn " +
+            "FROM bookings b " +
+            "WHERE b.item_id IN (:itemIds) AND b.start_date <> :now" +
+            ") s " +
+            "WHERE s.rn = 1",
+            nativeQuery = true)
+    List<BookingSummary> findLastAndNextByItemIdIn(
+            @Param("itemIds") List<Long> itemIds,
+            @Param("now") LocalDateTime now
+    );
 
-    List<Booking> findByItemOwnerAndStartIsBeforeAndEndIsAfterOrderByIdDesc(
-            Long ownerId,
-            LocalDateTime start,
+    @Query("select case when count(b.id) > 0 then true else false end from Booking b " +
+            "where b.item.id = ?1 and b.status in ?2 and b.start < ?3 and b.end > ?4")
+    boolean existsByItemIdAndStatusInAndStartBeforeAndEndAfter(
+            Long itemId,
+            List<Status> statuses,
             LocalDateTime end,
-            Pageable pageable
+            LocalDateTime start
     );
 
-    Booking findTopByItemIdAndStartIsAfterOrderByStart(Long itemId, LocalDateTime start);
-
-    Booking findTopByItemIdAndStartIsBeforeOrderByStartDesc(Long itemId, LocalDateTime start);
-
+    @Query("select b from Booking b join fetch b.booker " +
+            "where b.booker.id = ?1 and b.item.id = ?2 and b.start < ?3 and b.status = ?4")
     List<Booking> findByBookerIdAndItemIdAndStartBeforeAndStatus(
             Long bookerId,
             Long itemId,
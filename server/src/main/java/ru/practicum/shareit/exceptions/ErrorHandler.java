@@ -1,15 +1,18 @@
 package ru.practicum.shareit.exceptions;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.exceptions.model.AlreadyExistsException;
 import ru.practicum.shareit.exceptions.model.NotFoundException;
+import ru.practicum.shareit.exceptions.model.SqlBudgetExceededException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
 
 import javax.persistence.EntityNotFoundException;
+import javax.persistence.OptimisticLockException;
 import java.util.Map;
 
 @Slf4j
@@ -43,4 +46,18 @@ public class ErrorHandler {
         log.error(e.getMessage());
         return Map.of("error", e.getMessage());
     }
+
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handlerOptimisticLockException(final RuntimeException e) {
+        log.error(e.getMessage());
+        return Map.of("error", "Данные были изменены параллельным запросом, повторите попытку");
+    }
+
+    @ExceptionHandler({SqlBudgetExceededException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> handlerSqlBudgetExceededException(final SqlBudgetExceededException e) {
+        log.error(e.getMessage());
+        return Map.of("error", e.getMessage());
+    }
 }
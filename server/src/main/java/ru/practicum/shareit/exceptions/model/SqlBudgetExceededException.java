@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions.model;
+
+public class SqlBudgetExceededException extends RuntimeException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -2,8 +2,12 @@ package ru.practicum.shareit.item;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoResponse;
@@ -28,22 +32,41 @@ public class ItemController {
         return itemService.createItem(itemDtoRequest, userId);
     }
 
+    @PostMapping("/batch")
+    public BatchResponse<ItemDtoResponse> createItems(
+            @RequestBody List<ItemDtoRequest> itemDtoRequestList,
+            @RequestParam(defaultValue = "ATOMIC") BatchMode mode,
+            @RequestHeader("X-Sharer-User-Id") Long userId
+    ) {
+        log.info("Получен запрос на пакетное добавление вещей от пользователя с ID: " + userId +
+                ". Количество: " + itemDtoRequestList.size());
+        return itemService.createItems(itemDtoRequestList, userId, mode);
+    }
+
     @GetMapping
-    public List<ItemDtoResponse> getAllItems(
+    public ResponseEntity<List<ItemDtoResponse>> getAllItems(
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос на формирование списка всех вещей от пользователя с ID: " + userId);
-        return itemService.getAllItemsByUser(userId, from, size);
+        if (cursor != null) {
+            return itemService.getAllItemsByUser(userId, cursor, size).toResponseEntity();
+        }
+        return ResponseEntity.ok(itemService.getAllItemsByUser(userId, from, size));
     }
 
     @GetMapping("/{itemId}")
     public ItemDtoResponse getItemById(
             @PathVariable Long itemId,
-            @RequestHeader("X-Sharer-User-Id") Long userId
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            WebRequest webRequest
     ) {
         log.info("Получен запрос на отправку вещи с ID " + itemId);
+        if (webRequest.checkNotModified(itemService.getItemETag(itemId, userId))) {
+            return null;
+        }
         return itemService.getItemByIdWithBooking(itemId, userId);
     }
 
@@ -58,13 +81,17 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDtoResponse> searchItem(
+    public ResponseEntity<List<ItemDtoResponse>> searchItem(
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam String text
     ) {
         log.info("Получен запрос на поиск вещи. Текст поискового запроса: " + text);
-        return itemService.searchItem(text, from, size);
+        if (cursor != null) {
+            return itemService.searchItem(text, cursor, size).toResponseEntity();
+        }
+        return ResponseEntity.ok(itemService.searchItem(text, from, size));
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.card;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.item.dto.BookingForItemDto;
+import ru.practicum.shareit.item.dto.CommentDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemCard {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Boolean available;
+    private final Long owner;
+    private final Long requestId;
+    private final BookingForItemDto lastBooking;
+    private final BookingForItemDto nextBooking;
+    private final List<CommentDto> comments;
+
+    public boolean isExpired(LocalDateTime now) {
+        return nextBooking != null && !now.isBefore(nextBooking.getStart());
+    }
+}
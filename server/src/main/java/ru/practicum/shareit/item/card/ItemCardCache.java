@@ -0,0 +1,56 @@
+package ru.practicum.shareit.item.card;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Component
+public class ItemCardCache {
+    private Cache<Long, ItemCard> cards;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Value("${shareit.item-card.max-size:10000}")
+    private long maxSize;
+
+    @PostConstruct
+    public void init() {
+        cards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cards, "itemCards");
+    }
+
+    public ItemCard get(Long itemId, Function<Long, ItemCard> loader) {
+        ItemCard card = cards.get(itemId, loader);
+        if (card.isExpired(LocalDateTime.now())) {
+            cards.asMap().remove(itemId, card);
+            card = cards.get(itemId, loader);
+        }
+        return card;
+    }
+
+    public void invalidateAfterCommit(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cards.invalidate(itemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cards.invalidate(itemId);
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.dto;
 
 import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingSummary;
+import ru.practicum.shareit.item.card.ItemCard;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 
@@ -29,7 +31,8 @@ public class ItemMapper {
                 itemDtoRequest.getDescription(),
                 itemDtoRequest.getAvailable(),
                 ownerId,
-                request
+                request,
+                null
         );
     }
 
@@ -40,7 +43,8 @@ public class ItemMapper {
                 itemDtoRequest.getDescription(),
                 itemDtoRequest.getAvailable(),
                 owner,
-                request
+                request,
+                null
         );
     }
 
@@ -61,4 +65,45 @@ public class ItemMapper {
                 comments
         );
     }
+
+    public static ItemCard toItemCard(
+            Item item,
+            BookingForItemDto lastBooking,
+            BookingForItemDto nextBooking,
+            List<CommentDto> comments
+    ) {
+        return new ItemCard(
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getAvailable(),
+                item.getOwner(),
+                item.getRequest() != null ? item.getRequest().getId() : null,
+                lastBooking,
+                nextBooking,
+                List.copyOf(comments)
+        );
+    }
+
+    public static ItemDtoResponse toItemDto(ItemCard itemCard, boolean withBookings) {
+        return new ItemDtoResponse(
+                itemCard.getId(),
+                itemCard.getName(),
+                itemCard.getDescription(),
+                itemCard.getAvailable(),
+                itemCard.getRequestId(),
+                withBookings ? itemCard.getLastBooking() : null,
+                withBookings ? itemCard.getNextBooking() : null,
+                itemCard.getComments()
+        );
+    }
+
+    public static BookingForItemDto toBookingForItemDto(BookingSummary bookingSummary) {
+        return new BookingForItemDto(
+                bookingSummary.getId(),
+                bookingSummary.getBookerId(),
+                bookingSummary.getStart(),
+                bookingSummary.getEnd()
+        );
+    }
 }
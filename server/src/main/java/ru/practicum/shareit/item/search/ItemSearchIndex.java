@@ -0,0 +1,330 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemStorage;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final long[] EMPTY_POSTINGS = new long[0];
+    private static final Comparator<SearchHit> HIT_ORDER = Comparator.comparingInt(SearchHit::getScore)
+            .reversed()
+            .thenComparingLong(SearchHit::getId);
+
+    private Map<String, long[]> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    private final Map<Long, Document> pendingDocuments = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    private boolean rebuilding = false;
+
+    @Autowired
+    private ItemStorage itemStorage;
+    @Value("${shareit.search.mode:INDEX}")
+    private SearchMode searchMode;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (searchMode != SearchMode.INDEX) {
+            log.info("Поисковый индекс вещей отключен, поиск выполняется в базе данных");
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingDocuments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<ItemSearchView> itemList = itemStorage.findAllForSearchIndex();
+        Map<Long, Document> builtDocuments = new HashMap<>();
+        Map<String, PostingsBuilder> builders = new HashMap<>();
+        for (ItemSearchView item : itemList) {
+            Document document = new Document(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+            builtDocuments.put(document.id, document);
+            for (String gram : document.grams()) {
+                builders.computeIfAbsent(gram, key -> new PostingsBuilder()).add(document.id);
+            }
+        }
+        Map<String, long[]> builtPostings = new HashMap<>();
+        builders.forEach((gram, builder) -> builtPostings.put(gram, builder.build()));
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            postings = builtPostings;
+            documents = builtDocuments;
+            replayed = pendingDocuments.size();
+            for (Document document : pendingDocuments.values()) {
+                remove(document.id);
+                add(document);
+            }
+            pendingDocuments.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Поисковый индекс вещей построен. Количество вещей: " + itemList.size() +
+                ", изменений во время построения: " + replayed);
+    }
+
+    public boolean isReady() {
+        return searchMode == SearchMode.INDEX && ready;
+    }
+
+    public void index(Item item) {
+        Document document = new Document(item.getId(), item.getName(), item.getDescription(), item.getAvailable());
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingDocuments.put(document.id, document);
+            }
+            remove(document.id);
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String text, int from, int size) {
+        List<SearchHit> found = rank(text);
+        List<Long> itemIdList = new ArrayList<>();
+        for (int i = from; i < found.size() && itemIdList.size() < size; i++) {
+            itemIdList.add(found.get(i).getId());
+        }
+        return itemIdList;
+    }
+
+    public List<SearchHit> searchAfter(String text, Integer score, Long id, int size) {
+        List<SearchHit> found = rank(text);
+        int from = 0;
+        if (id != null) {
+            int position = Collections.binarySearch(found, new SearchHit(id, score), HIT_ORDER);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        return new ArrayList<>(found.subList(from, Math.min(from + size, found.size())));
+    }
+
+    private List<SearchHit> rank(String text) {
+        String query = normalize(text);
+        List<SearchHit> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long id : findCandidates(query)) {
+                addIfMatches(found, documents.get(id), query);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort(HIT_ORDER);
+        return found;
+    }
+
+    private long[] findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return postings.getOrDefault(query, EMPTY_POSTINGS);
+        }
+        List<long[]> lists = new ArrayList<>();
+        for (String gram : toGrams(query, GRAM_LENGTH)) {
+            long[] list = postings.get(gram);
+            if (list == null) {
+                return EMPTY_POSTINGS;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private void addIfMatches(List<SearchHit> found, Document document, String query) {
+        if (!document.available) {
+            return;
+        }
+        int score = score(document, query);
+        if (score > 0) {
+            found.add(new SearchHit(document.id, score));
+        }
+    }
+
+    private int score(Document document, String query) {
+        int score = 0;
+        int namePosition = document.name.indexOf(query);
+        if (namePosition >= 0) {
+            score += 4;
+            if (namePosition == 0) {
+                score += 2;
+            }
+            if (document.name.length() == query.length()) {
+                score += 4;
+            }
+            if (isWholeWord(document.name, namePosition, query.length())) {
+                score += 2;
+            }
+        }
+        int descriptionPosition = document.description.indexOf(query);
+        if (descriptionPosition >= 0) {
+            score += 1;
+            if (isWholeWord(document.description, descriptionPosition, query.length())) {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    private boolean isWholeWord(String text, int position, int length) {
+        int end = position + length;
+        return (position == 0 || !Character.isLetterOrDigit(text.charAt(position - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    private void add(Document document) {
+        documents.put(document.id, document);
+        for (String gram : document.grams()) {
+            postings.put(gram, insert(postings.getOrDefault(gram, EMPTY_POSTINGS), document.id));
+        }
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            long[] list = delete(postings.get(gram), id);
+            if (list.length == 0) {
+                postings.remove(gram);
+            } else {
+                postings.put(gram, list);
+            }
+        }
+    }
+
+    private static long[] insert(long[] list, long id) {
+        int position = Arrays.binarySearch(list, id);
+        if (position >= 0) {
+            return list;
+        }
+        position = -position - 1;
+        long[] result = new long[list.length + 1];
+        System.arraycopy(list, 0, result, 0, position);
+        result[position] = id;
+        System.arraycopy(list, position, result, position + 1, list.length - position);
+        return result;
+    }
+
+    private static long[] delete(long[] list, long id) {
+        int position = Arrays.binarySearch(list, id);
+        if (position < 0) {
+            return list;
+        }
+        long[] result = new long[list.length - 1];
+        System.arraycopy(list, 0, result, 0, position);
+        System.arraycopy(list, position + 1, result, position, list.length - position - 1);
+        return result;
+    }
+
+    private static long[] intersect(long[] first, long[] second) {
+        long[] result = new long[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[k++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static Set<String> toGrams(String text, int length) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + length <= text.length(); i++) {
+            grams.add(text.substring(i, i + length));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Document {
+        private final long id;
+        private final String name;
+        private final String description;
+        private final boolean available;
+
+        private Document(Long id, String name, String description, Boolean available) {
+            this.id = id;
+            this.name = normalize(name);
+            this.description = normalize(description);
+            this.available = Boolean.TRUE.equals(available);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                grams.addAll(toGrams(name, length));
+                grams.addAll(toGrams(description, length));
+            }
+            return grams;
+        }
+    }
+
+    private static class PostingsBuilder {
+        private long[] ids = new long[4];
+        private int size = 0;
+
+        private void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private long[] build() {
+            long[] result = Arrays.copyOf(ids, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    public static class SearchHit {
+        private final long id;
+        private final int score;
+
+        private SearchHit(long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public int getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.item.search;
+
+public enum SearchMode {
+    INDEX,
+    DATABASE
+}
@@ -1,28 +1,39 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoResponse;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.request.dto.ItemForItemRequestDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemService {
     ItemDtoResponse createItem(ItemDtoRequest itemDtoRequest, Long owner);
 
+    BatchResponse<ItemDtoResponse> createItems(List<ItemDtoRequest> itemDtoRequestList, Long owner, BatchMode mode);
+
     List<ItemDtoResponse> getAllItemsByUser(Long userId, int from, int size);
 
+    CursorPage<ItemDtoResponse> getAllItemsByUser(Long userId, String cursor, int size);
+
     Item getItemById(Long itemId);
 
     ItemDtoResponse getItemByIdWithBooking(Long itemId, Long userId);
 
+    String getItemETag(Long itemId, Long userId);
+
     ItemDtoResponse updateItem(ItemDtoRequest itemDtoRequest, Long itemId, Long ownerId);
 
     List<ItemDtoResponse> searchItem(String text, int from, int size);
 
-    CommentDto addComment(CommentDto commentDto, Long itemId, Long userId);
+    CursorPage<ItemDtoResponse> searchItem(String text, String cursor, int size);
 
-    List<Item> getItemsByRequestId(Long requestId);
+    CommentDto addComment(CommentDto commentDto, Long itemId, Long userId);
 
-    List<Item> getItemsByRequestIdList(List<Long> itemRequestIdList);
+    List<ItemForItemRequestDto> getItemsByRequestIdList(Collection<Long> itemRequestIdList);
 }
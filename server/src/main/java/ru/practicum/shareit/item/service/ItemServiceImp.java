@@ -5,21 +5,38 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
+import ru.practicum.shareit.batch.BatchRows;
+import ru.practicum.shareit.booking.dto.BookingSummary;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
 import ru.practicum.shareit.exceptions.model.NotFoundException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
+import ru.practicum.shareit.item.card.ItemCard;
+import ru.practicum.shareit.item.card.ItemCardCache;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.storage.CommentStorage;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetBasedPageRequest;
+import ru.practicum.shareit.request.dto.ItemForItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.storage.ItemRequestStorage;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Primary
 @Service
@@ -34,57 +51,90 @@ public class ItemServiceImp implements ItemService {
     private CommentStorage commentStorage;
     @Autowired
     private ItemRequestStorage itemRequestStorage;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+    @Autowired
+    private ItemCardCache itemCardCache;
 
     @Override
     @Transactional
     public ItemDtoResponse createItem(ItemDtoRequest itemDtoRequest, Long ownerId) {
         ItemRequest itemRequest = null;
         if (itemDtoRequest.getRequestId() != null) {
-            itemRequest = itemRequestStorage.getById(itemDtoRequest.getRequestId());
+            itemRequest = getItemRequestById(itemDtoRequest.getRequestId());
         }
         Item item = ItemMapper.toItem(itemDtoRequest, ownerId, itemRequest);
         checkNameItem(item);
         checkDescriptionItem(item);
         checkAvailableItem(item);
         checkOwnerId(item);
-        return ItemMapper.toItemDtoWithoutBooking(itemStorage.save(item), null);
+        Item newItem = itemStorage.save(item);
+        indexAfterCommit(newItem);
+        return ItemMapper.toItemDtoWithoutBooking(newItem, null);
+    }
+
+    @Override
+    @Transactional
+    public BatchResponse<ItemDtoResponse> createItems(
+            List<ItemDtoRequest> itemDtoRequestList,
+            Long ownerId,
+            BatchMode mode
+    ) {
+        userService.getUserById(ownerId).getName();
+        BatchRows<Item> rows = BatchRows.prepare(itemDtoRequestList, mode, itemDtoRequest -> {
+            ItemRequest itemRequest = null;
+            if (itemDtoRequest.getRequestId() != null) {
+                itemRequest = getItemRequestById(itemDtoRequest.getRequestId());
+            }
+            Item item = ItemMapper.toItem(itemDtoRequest, ownerId, itemRequest);
+            checkNameItem(item);
+            checkDescriptionItem(item);
+            checkAvailableItem(item);
+            return item;
+        });
+        List<Item> newItems = itemStorage.saveAll(rows.getEntities());
+        for (Item item : newItems) {
+            indexAfterCommit(item);
+        }
+        return rows.toResponse(newItems, item -> ItemMapper.toItemDtoWithoutBooking(item, null));
     }
 
     @Override
     public List<ItemDtoResponse> getAllItemsByUser(Long userId, int from, int size) {
         checkPageableParameters(from, size);
-        int page = from / size;
-        List<Item> itemList = itemStorage.findByOwner(userId, PageRequest.of(page, size));
-        List<ItemDtoResponse> itemDtoResponseList = new ArrayList<>();
-        for (Item item : itemList) {
-            List<Comment> comments = commentStorage.findByItemId(item.getId());
-            List<CommentDto> commentDtoList = fillComments(comments);
-            itemDtoResponseList.add(
-                    ItemMapper.toItemDto(
-                            item,
-                            getLastBooking(item.getId()),
-                            getNextBooking(item.getId()),
-                            commentDtoList
-                    )
-            );
-        }
-        return itemDtoResponseList;
+        List<Item> itemList = itemStorage.findByOwner(userId, OffsetBasedPageRequest.of(from, size));
+        return toItemDtoResponseList(itemList);
+    }
+
+    @Override
+    public CursorPage<ItemDtoResponse> getAllItemsByUser(Long userId, String cursorString, int size) {
+        checkPageableParameters(0, size);
+        Cursor cursor = Cursor.decode(cursorString);
+        List<Item> itemList = itemStorage.findByOwnerAndIdGreaterThanOrderById(
+                userId,
+                cursor.isFirst() ? 0L : cursor.getId(),
+                PageRequest.of(0, size)
+        );
+        return CursorPage.of(toItemDtoResponseList(itemList), size, item -> Cursor.of(item.getId()));
     }
 
     @Override
     public ItemDtoResponse getItemByIdWithBooking(Long itemId, Long userId) {
-        Item item = getItemById(itemId);
-        List<Comment> comments = commentStorage.findByItemId(item.getId());
-        List<CommentDto> commentDtoList = fillComments(comments);
-        if (item.getOwner().equals(userId)) {
-            return ItemMapper.toItemDto(
-                    item,
-                    getLastBooking(item.getId()),
-                    getNextBooking(item.getId()),
-                    commentDtoList
-            );
+        ItemCard itemCard = itemCardCache.get(itemId, this::loadItemCard);
+        return ItemMapper.toItemDto(itemCard, itemCard.getOwner().equals(userId));
+    }
+
+    @Override
+    public String getItemETag(Long itemId, Long userId) {
+        ItemVersionView itemVersion = itemStorage.findVersionById(itemId)
+                .orElseThrow(() -> new NotFoundException("Вещь с ID " + itemId + " не найдена"));
+        String eTag = "item-" + itemId + "-v" + itemVersion.getVersion();
+        if (itemVersion.getOwner().equals(userId)) {
+            eTag += "-o" + bookingService.countStartedBookings(itemId);
         }
-        return ItemMapper.toItemDtoWithoutBooking(item, commentDtoList);
+        return "\"" + eTag + "\"";
     }
 
     @Override
@@ -92,7 +142,7 @@ public class ItemServiceImp implements ItemService {
     public ItemDtoResponse updateItem(ItemDtoRequest itemDtoRequest, Long itemId, Long ownerId) {
         ItemRequest itemRequest = null;
         if (itemDtoRequest.getRequestId() != null) {
-            itemRequest = itemRequestStorage.getById(itemDtoRequest.getRequestId());
+            itemRequest = getItemRequestById(itemDtoRequest.getRequestId());
         }
         Item item = ItemMapper.toItem(itemDtoRequest, itemId, ownerId, itemRequest);
         Item oldItem = getItemById(item.getId());
@@ -112,50 +162,55 @@ public class ItemServiceImp implements ItemService {
         if (item.getDescription() == null) {
             item.setDescription(oldItem.getDescription());
         }
-        return ItemMapper.toItemDtoWithoutBooking(itemStorage.save(item), null);
+        item.setVersion(oldItem.getVersion());
+        Item updatedItem = itemStorage.save(item);
+        indexAfterCommit(updatedItem);
+        entityCacheEvictor.evictAfterCommit(Item.class, itemId);
+        itemCardCache.invalidateAfterCommit(itemId);
+        return ItemMapper.toItemDtoWithoutBooking(updatedItem, null);
     }
 
     @Override
     public List<ItemDtoResponse> searchItem(String text, int from, int size) {
         checkPageableParameters(from, size);
-        int page = from / size;
         List<Item> itemList;
         if (text.isEmpty()) {
             return new ArrayList<>();
+        } else if (itemSearchIndex.isReady()) {
+            itemList = getItemsInOrder(itemSearchIndex.search(text, from, size));
         } else {
-            itemList = itemStorage.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndAvailableTrue(
-                    text,
+            itemList = itemStorage.searchAvailable(text, OffsetBasedPageRequest.of(from, size));
+        }
+        return toItemDtoResponseList(itemList);
+    }
+
+    @Override
+    public CursorPage<ItemDtoResponse> searchItem(String text, String cursorString, int size) {
+        checkPageableParameters(0, size);
+        Cursor cursor = Cursor.decode(cursorString);
+        if (text.isEmpty()) {
+            return new CursorPage<>(new ArrayList<>(), null);
+        }
+        if (!itemSearchIndex.isReady() || !(cursor.isFirst() || cursor.hasScore())) {
+            List<Item> itemList = itemStorage.searchAvailableAfterId(
                     text,
-                    PageRequest.of(page, size)
+                    cursor.isFirst() ? 0L : cursor.getId(),
+                    PageRequest.of(0, size)
             );
-
-            List<Long> commentsId = new ArrayList<>();
-            for (Item item : itemList) {
-                commentsId.add(item.getId());
-            }
-
-            List<Comment> allComments = commentStorage.findByItemIdIn(commentsId);
-
-            List<ItemDtoResponse> itemDtoResponseList = new ArrayList<>();
-            for (Item item : itemList) {
-                List<Comment> comments = new ArrayList<>();
-                for (Comment comment : allComments) {
-                    if (comment.getItemId().equals(item.getId())) {
-                        comments.add(comment);
-                    }
-                }
-                List<CommentDto> commentDtoList = fillComments(comments);
-                itemDtoResponseList.add(
-                        ItemMapper.toItemDto(
-                                item,
-                                getLastBooking(item.getId()),
-                                getNextBooking(item.getId()),
-                                commentDtoList
-                        )
-                );
-            }
-            return itemDtoResponseList;
+            return CursorPage.of(toItemDtoResponseList(itemList), size, item -> Cursor.of(item.getId()));
         }
+        List<ItemSearchIndex.SearchHit> hitList = itemSearchIndex.searchAfter(
+                text,
+                cursor.isFirst() ? null : cursor.getScore(),
+                cursor.getId(),
+                size
+        );
+        List<ItemDtoResponse> itemDtoResponseList = toItemDtoResponseList(getItemsInOrder(toIdList(hitList)));
+        if (hitList.size() < size) {
+            return new CursorPage<>(itemDtoResponseList, null);
+        }
+        ItemSearchIndex.SearchHit lastHit = hitList.get(hitList.size() - 1);
+        return new CursorPage<>(itemDtoResponseList, Cursor.of(lastHit.getScore(), lastHit.getId()).encode());
     }
 
     @Override
@@ -174,54 +229,119 @@ public class ItemServiceImp implements ItemService {
         }
         Comment comment = CommentMapper.toComment(commentDto, itemId, bookingList.get(0).getBooker());
         Comment commentNew = commentStorage.save(comment);
+        itemStorage.findByIdForUpdate(itemId);
+        itemCardCache.invalidateAfterCommit(itemId);
         return CommentMapper.toCommentDto(commentNew);
     }
 
     @Override
     public Item getItemById(Long itemId) {
-        return itemStorage.getById(itemId);
+        return itemStorage.findById(itemId)
+                .orElseThrow(() -> new NotFoundException("Вещь с ID " + itemId + " не найдена"));
     }
 
     @Override
-    public List<Item> getItemsByRequestId(Long requestId) {
-        return itemStorage.findByRequestId(requestId);
+    public List<ItemForItemRequestDto> getItemsByRequestIdList(Collection<Long> itemRequestIdList) {
+        if (itemRequestIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return itemStorage.findForItemRequestByRequestIdIn(itemRequestIdList);
     }
 
-    @Override
-    public List<Item> getItemsByRequestIdList(List<Long> itemRequestIdList) {
-        return itemStorage.findByRequestIdIn(itemRequestIdList);
+    private ItemRequest getItemRequestById(Long itemRequestId) {
+        return itemRequestStorage.findById(itemRequestId)
+                .orElseThrow(() -> new NotFoundException("Запрос с ID " + itemRequestId + " не найден"));
     }
 
-    private BookingForItemDto getLastBooking(Long itemId) {
-        Booking lastBooking = bookingService.getLastBooking(itemId);
-        BookingForItemDto lastBookingDto;
-        if (lastBooking != null) {
-            lastBookingDto = new BookingForItemDto(
-                    lastBooking.getId(),
-                    lastBooking.getBooker().getId(),
-                    lastBooking.getStart(),
-                    lastBooking.getEnd()
-            );
-        } else {
-            lastBookingDto = null;
+    private List<Item> getItemsInOrder(List<Long> itemIdList) {
+        Map<Long, Item> itemsById = new HashMap<>();
+        for (Item item : itemStorage.findAllById(itemIdList)) {
+            itemsById.put(item.getId(), item);
+        }
+        List<Item> itemList = new ArrayList<>();
+        for (Long itemId : itemIdList) {
+            Item item = itemsById.get(itemId);
+            if (item != null) {
+                itemList.add(item);
+            }
+        }
+        return itemList;
+    }
+
+    private List<Long> toIdList(List<ItemSearchIndex.SearchHit> hitList) {
+        List<Long> itemIdList = new ArrayList<>();
+        for (ItemSearchIndex.SearchHit hit : hitList) {
+            itemIdList.add(hit.getId());
+        }
+        return itemIdList;
+    }
+
+    private void indexAfterCommit(Item item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            itemSearchIndex.index(item);
+            return;
         }
-        return lastBookingDto;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                itemSearchIndex.index(item);
+            }
+        });
     }
 
-    private BookingForItemDto getNextBooking(Long itemId) {
-        Booking nextBooking = bookingService.getNextBooking(itemId);
-        BookingForItemDto nextBookingDto;
-        if (nextBooking != null) {
-            nextBookingDto = new BookingForItemDto(
-                    nextBooking.getId(),
-                    nextBooking.getBooker().getId(),
-                    nextBooking.getStart(),
-                    nextBooking.getEnd()
+    private List<ItemDtoResponse> toItemDtoResponseList(List<Item> itemList) {
+        List<Long> itemIdList = new ArrayList<>();
+        for (Item item : itemList) {
+            itemIdList.add(item.getId());
+        }
+        if (itemIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<CommentDto>> commentsByItemId = new HashMap<>();
+        for (Comment comment : commentStorage.findWithAuthorByItemIdIn(itemIdList)) {
+            commentsByItemId.computeIfAbsent(comment.getItemId(), id -> new ArrayList<>())
+                    .add(CommentMapper.toCommentDto(comment));
+        }
+
+        Map<Long, BookingForItemDto> lastBookings = new HashMap<>();
+        Map<Long, BookingForItemDto> nextBookings = new HashMap<>();
+        for (BookingSummary bookingSummary : bookingService.getLastAndNextBookings(itemIdList)) {
+            BookingForItemDto bookingForItemDto = ItemMapper.toBookingForItemDto(bookingSummary);
+            if (bookingSummary.getNext()) {
+                nextBookings.put(bookingSummary.getItemId(), bookingForItemDto);
+            } else {
+                lastBookings.put(bookingSummary.getItemId(), bookingForItemDto);
+            }
+        }
+
+        List<ItemDtoResponse> itemDtoResponseList = new ArrayList<>();
+        for (Item item : itemList) {
+            itemDtoResponseList.add(
+                    ItemMapper.toItemDto(
+                            item,
+                            lastBookings.get(item.getId()),
+                            nextBookings.get(item.getId()),
+                            commentsByItemId.getOrDefault(item.getId(), new ArrayList<>())
+                    )
             );
-        } else {
-            nextBookingDto = null;
         }
-        return nextBookingDto;
+        return itemDtoResponseList;
+    }
+
+    private ItemCard loadItemCard(Long itemId) {
+        Item item = getItemById(itemId);
+        List<CommentDto> commentDtoList = fillComments(commentStorage.findWithAuthorByItemIdIn(List.of(itemId)));
+        BookingForItemDto lastBooking = null;
+        BookingForItemDto nextBooking = null;
+        for (BookingSummary bookingSummary : bookingService.getLastAndNextBookings(List.of(itemId))) {
+            if (bookingSummary.getNext()) {
+                nextBooking = ItemMapper.toBookingForItemDto(bookingSummary);
+            } else {
+                lastBooking = ItemMapper.toBookingForItemDto(bookingSummary);
+            }
+        }
+        return ItemMapper.toItemCard(item, lastBooking, nextBooking, commentDtoList);
     }
 
     private void checkNameItem(Item item) {
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.storage;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemLockStorage {
+    Optional<Item> findByIdForUpdate(Long itemId);
+
+    List<Item> findAllByIdForUpdate(Collection<Long> itemIds);
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.item.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+public class ItemLockStorageImpl implements ItemLockStorage {
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public Optional<Item> findByIdForUpdate(Long itemId) {
+        Item item = entityManager.find(Item.class, itemId);
+        if (item == null) {
+            return Optional.empty();
+        }
+        entityManager.lock(item, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        entityManager.refresh(item, LockModeType.PESSIMISTIC_WRITE);
+        entityCacheEvictor.evictAfterCommit(Item.class, itemId);
+        return Optional.of(item);
+    }
+
+    @Override
+    public List<Item> findAllByIdForUpdate(Collection<Long> itemIds) {
+        List<Item> items = new ArrayList<>();
+        for (Long itemId : new TreeSet<>(itemIds)) {
+            findByIdForUpdate(itemId).ifPresent(items::add);
+        }
+        return items;
+    }
+}
@@ -2,20 +2,44 @@ package ru.practicum.shareit.item.storage;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.dto.ItemVersionView;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchView;
+import ru.practicum.shareit.request.dto.ItemForItemRequestDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ItemStorage extends JpaRepository<Item, Long> {
-    List<Item> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseAndAvailableTrue(
-            String nameSearch,
-            String descriptionSearch,
-            Pageable pageable
-    );
+public interface ItemStorage extends JpaRepository<Item, Long>, ItemLockStorage {
+    @Query("select i from Item i " +
+            "where i.available = true " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by i.id")
+    List<Item> searchAvailable(String text, Pageable pageable);
 
     List<Item> findByOwner(Long ownerId, Pageable pageable);
 
-    List<Item> findByRequestId(Long requestId);
+    List<Item> findByOwnerAndIdGreaterThanOrderById(Long ownerId, Long afterId, Pageable pageable);
 
-    List<Item> findByRequestIdIn(List<Long> requestsId);
+    @Query("select i from Item i " +
+            "where i.available = true and i.id > ?2 " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by i.id")
+    List<Item> searchAvailableAfterId(String text, Long afterId, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.request.dto.ItemForItemRequestDto(" +
+            "i.id, i.name, i.description, i.available, i.request.id) " +
+            "from Item i where i.request.id in ?1 order by i.id")
+    List<ItemForItemRequestDto> findForItemRequestByRequestIdIn(Collection<Long> requestIds);
+
+    @Query("select i.version as version, i.owner as owner from Item i where i.id = ?1")
+    Optional<ItemVersionView> findVersionById(Long itemId);
+
+    @Query("select i.id as id, i.name as name, i.description as description, i.available as available " +
+            "from Item i order by i.id")
+    List<ItemSearchView> findAllForSearchIndex();
 }
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.BaseSessionEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+public class HibernateSessionMetrics extends BaseSessionEventListener {
+    private static volatile MeterRegistry meterRegistry;
+
+    private long statementCount;
+    private long statementStart;
+    private long statementNanos;
+    private long flushStart;
+    private long flushNanos;
+
+    public static void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementNanos += System.nanoTime() - statementStart;
+        statementCount++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statementNanos += System.nanoTime() - statementStart;
+        statementCount++;
+    }
+
+    @Override
+    public void flushStart() {
+        flushStart = System.nanoTime();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushNanos += System.nanoTime() - flushStart;
+    }
+
+    @Override
+    public void end() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null || statementCount == 0) {
+            return;
+        }
+        Tags tags = MetricsTags.current();
+        Timer.builder("shareit.hibernate.session.sql")
+                .tags(tags)
+                .register(registry)
+                .record(statementNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("shareit.hibernate.session.flush")
+                .tags(tags)
+                .register(registry)
+                .record(flushNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("shareit.hibernate.session.statements")
+                .tags(tags)
+                .register(registry)
+                .record(statementCount);
+    }
+}
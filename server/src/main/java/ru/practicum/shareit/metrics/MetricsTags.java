@@ -0,0 +1,49 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.booking.model.State;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class MetricsTags {
+    private static final String STATE_ATTRIBUTE = MetricsTags.class.getName() + ".state";
+    private static final String NONE = "none";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    public static void setState(String stateString) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(STATE_ATTRIBUTE, toState(stateString), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static Tags current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return Tags.of("endpoint", NONE, "state", NONE);
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        Object state = attributes.getAttribute(STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return Tags.of(
+                "endpoint", endpoint(request),
+                "state", state != null ? state.toString() : NONE
+        );
+    }
+
+    public static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : NONE;
+    }
+
+    private static String toState(String stateString) {
+        try {
+            return State.valueOf(stateString).name();
+        } catch (RuntimeException e) {
+            return UNKNOWN;
+        }
+    }
+}
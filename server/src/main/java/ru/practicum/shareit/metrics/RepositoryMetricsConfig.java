@@ -0,0 +1,16 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaultTagsProvider = new DefaultRepositoryTagsProvider();
+        return invocation -> MetricsTags.current().and(defaultTagsProvider.repositoryTags(invocation));
+    }
+}
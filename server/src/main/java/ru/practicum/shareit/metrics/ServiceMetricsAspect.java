@@ -0,0 +1,52 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    private static final String SERVICE_CALLS = "shareit.service.calls";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * ru.practicum.shareit..service.*ServiceImp.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        captureState(signature.getParameterNames(), joinPoint.getArgs());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_CALLS)
+                    .tag("service", signature.getDeclaringType().getSimpleName().replaceFirst("Imp$", ""))
+                    .tag("method", signature.getName())
+                    .tag("exception", exception)
+                    .tags(MetricsTags.current())
+                    .register(meterRegistry));
+        }
+    }
+
+    private void captureState(String[] parameterNames, Object[] args) {
+        if (parameterNames == null) {
+            return;
+        }
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (args[i] instanceof String &&
+                    ("state".equals(parameterNames[i]) || "stateString".equals(parameterNames[i]))) {
+                MetricsTags.setState((String) args[i]);
+            }
+        }
+    }
+}
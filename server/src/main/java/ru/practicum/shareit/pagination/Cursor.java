@@ -0,0 +1,84 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.exceptions.model.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class Cursor {
+    private static final String SEPARATOR = "|";
+
+    private final String key;
+    private final Long id;
+
+    public static Cursor of(Long id) {
+        return new Cursor(null, id);
+    }
+
+    public static Cursor of(LocalDateTime created, Long id) {
+        return new Cursor(created.toString(), id);
+    }
+
+    public static Cursor of(int score, Long id) {
+        return new Cursor(String.valueOf(score), id);
+    }
+
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return new Cursor(null, null);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return new Cursor(null, Long.parseLong(decoded));
+            }
+            return new Cursor(decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Не верно указан курсор страницы. Переданное значение: " + value);
+        }
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public LocalDateTime getCreated() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (NullPointerException | DateTimeParseException e) {
+            throw new ValidationException("Курсор страницы не содержит даты создания");
+        }
+    }
+
+    public boolean hasScore() {
+        if (key == null) {
+            return false;
+        }
+        try {
+            Integer.parseInt(key);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getScore() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Курсор страницы не содержит релевантности");
+        }
+    }
+
+    public String encode() {
+        String value = key == null ? String.valueOf(id) : key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
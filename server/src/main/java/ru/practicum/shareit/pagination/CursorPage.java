@@ -0,0 +1,41 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public static <T> CursorPage<T> of(List<T> content, int size, Function<T, Cursor> cursorOfLast) {
+        if (content.size() < size) {
+            return new CursorPage<>(content, null);
+        }
+        return new CursorPage<>(content, cursorOfLast.apply(content.get(content.size() - 1)).encode());
+    }
+
+    public static <T, S> CursorPage<T> of(List<T> content, Slice<S> slice, Function<S, Cursor> cursorOfLast) {
+        if (!slice.hasNext()) {
+            return new CursorPage<>(content, null);
+        }
+        return new CursorPage<>(content, cursorOfLast.apply(slice.getContent().get(slice.getNumberOfElements() - 1))
+                .encode());
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return responseBuilder.body(content);
+    }
+}
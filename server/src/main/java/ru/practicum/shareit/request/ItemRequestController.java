@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -31,13 +32,17 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAllItemRequest(
+    public ResponseEntity<List<ItemRequestDto>> getAllItemRequest(
             @RequestParam(defaultValue = "0") int from,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             @RequestHeader("X-Sharer-User-Id") Long userId
     ) {
         log.info("Получен запрос на формирование списка всех запросов на вещи для пользователя с ID: " + userId);
-        return itemRequestService.getAllItemRequest(userId, from, size);
+        if (cursor != null) {
+            return itemRequestService.getAllItemRequest(userId, cursor, size).toResponseEntity();
+        }
+        return ResponseEntity.ok(itemRequestService.getAllItemRequest(userId, from, size));
     }
 
     @GetMapping("/{requestId}")
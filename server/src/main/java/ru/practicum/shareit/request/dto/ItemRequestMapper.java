@@ -14,7 +14,8 @@ public class ItemRequestMapper {
                 null,
                 itemRequestDto.getDescription(),
                 requester,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
     }
 
@@ -27,12 +28,12 @@ public class ItemRequestMapper {
         );
     }
 
-    public static ItemRequestDto toItemRequestDto(ItemRequest itemRequest, List<Item> itemList) {
+    public static ItemRequestDto toItemRequestDto(ItemRequest itemRequest, List<ItemForItemRequestDto> itemList) {
         return new ItemRequestDto(
                 itemRequest.getId(),
                 itemRequest.getDescription(),
                 itemRequest.getCreated(),
-                toItemForItemRequestDtoList(itemList)
+                itemList
         );
     }
 
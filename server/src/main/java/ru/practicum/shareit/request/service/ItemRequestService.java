@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -11,5 +12,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getAllItemRequest(Long userId, int from, int size);
 
+    CursorPage<ItemRequestDto> getAllItemRequest(Long userId, String cursor, int size);
+
     ItemRequestDto getItemRequestById(Long itemRequestId, Long userId);
 }
@@ -2,13 +2,17 @@ package ru.practicum.shareit.request.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exceptions.model.NotFoundException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
-import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetBasedPageRequest;
+import ru.practicum.shareit.request.dto.ItemForItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -16,7 +20,9 @@ import ru.practicum.shareit.request.storage.ItemRequestStorage;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Primary
 @Service
@@ -41,13 +47,7 @@ public class ItemRequestServiceImp implements ItemRequestService {
     @Override
     public List<ItemRequestDto> getItemRequestForUser(Long userId) {
         checkUser(userId);
-        List<ItemRequest> itemRequestList = itemRequestStorage.findByRequesterId(userId);
-        List<ItemRequestDto> itemRequestDtoList = new ArrayList<>();
-        for (ItemRequest itemRequest : itemRequestList) {
-            List<Item> items = itemService.getItemsByRequestId(itemRequest.getId());
-            itemRequestDtoList.add(ItemRequestMapper.toItemRequestDto(itemRequest, items));
-        }
-        return itemRequestDtoList;
+        return toItemRequestDtoList(itemRequestStorage.findByRequesterIdOrderByCreatedDescIdDesc(userId));
     }
 
     @Override
@@ -60,38 +60,65 @@ public class ItemRequestServiceImp implements ItemRequestService {
         if (size <= 0) {
             throw new ValidationException("Не верно указано значение размера страницы. Переданное значение: " + size);
         }
-        int page = from / size;
-        Page<ItemRequest> itemRequestList = itemRequestStorage.findAllWithoutRequesterId(
+        Slice<ItemRequest> itemRequestSlice = itemRequestStorage.findByRequesterIdNotOrderByCreatedDescIdDesc(
                 userId,
-                PageRequest.of(page, size)
+                OffsetBasedPageRequest.of(from, size)
         );
+        return toItemRequestDtoList(itemRequestSlice.getContent());
+    }
 
-        List<Long> itemRequestIdList = new ArrayList<>();
-        for (ItemRequest itemRequest : itemRequestList) {
-            itemRequestIdList.add(itemRequest.getId());
+    @Override
+    public CursorPage<ItemRequestDto> getAllItemRequest(Long userId, String cursorString, int size) {
+        checkUser(userId);
+        if (size <= 0) {
+            throw new ValidationException("Не верно указано значение размера страницы. Переданное значение: " + size);
         }
-
-        List<Item> allItemList = itemService.getItemsByRequestIdList(itemRequestIdList);
-
-        List<ItemRequestDto> itemRequestDtoList = new ArrayList<>();
-        for (ItemRequest itemRequest : itemRequestList) {
-            List<Item> items = new ArrayList<>();
-            for (Item item : allItemList) {
-                if (item.getRequest().getId().equals(itemRequest.getId())) {
-                    items.add(item);
-                }
-            }
-            itemRequestDtoList.add(ItemRequestMapper.toItemRequestDto(itemRequest, items));
+        Cursor cursor = Cursor.decode(cursorString);
+        Slice<ItemRequest> itemRequestSlice;
+        if (cursor.isFirst()) {
+            itemRequestSlice = itemRequestStorage.findByRequesterIdNotOrderByCreatedDescIdDesc(
+                    userId,
+                    PageRequest.of(0, size)
+            );
+        } else {
+            itemRequestSlice = itemRequestStorage.findAllWithoutRequesterIdBefore(
+                    userId,
+                    cursor.getCreated(),
+                    cursor.getId(),
+                    PageRequest.of(0, size)
+            );
         }
-        return itemRequestDtoList;
+        return CursorPage.of(
+                toItemRequestDtoList(itemRequestSlice.getContent()),
+                itemRequestSlice,
+                itemRequest -> Cursor.of(itemRequest.getCreated(), itemRequest.getId())
+        );
     }
 
     @Override
     public ItemRequestDto getItemRequestById(Long itemRequestId, Long userId) {
         checkUser(userId);
-        ItemRequest itemRequest = itemRequestStorage.getById(itemRequestId);
-        List<Item> items = itemService.getItemsByRequestId(itemRequestId);
-        return ItemRequestMapper.toItemRequestDto(itemRequest, items);
+        ItemRequest itemRequest = itemRequestStorage.findById(itemRequestId)
+                .orElseThrow(() -> new NotFoundException("Запрос с ID " + itemRequestId + " не найден"));
+        return toItemRequestDtoList(List.of(itemRequest)).get(0);
+    }
+
+    private List<ItemRequestDto> toItemRequestDtoList(List<ItemRequest> itemRequestList) {
+        Map<Long, List<ItemForItemRequestDto>> itemsByRequestId = new HashMap<>();
+        for (ItemRequest itemRequest : itemRequestList) {
+            itemsByRequestId.put(itemRequest.getId(), new ArrayList<>());
+        }
+        for (ItemForItemRequestDto item : itemService.getItemsByRequestIdList(itemsByRequestId.keySet())) {
+            itemsByRequestId.get(item.getRequestId()).add(item);
+        }
+
+        List<ItemRequestDto> itemRequestDtoList = new ArrayList<>();
+        for (ItemRequest itemRequest : itemRequestList) {
+            itemRequestDtoList.add(
+                    ItemRequestMapper.toItemRequestDto(itemRequest, itemsByRequestId.get(itemRequest.getId()))
+            );
+        }
+        return itemRequestDtoList;
     }
 
     private void checkUser(Long userId) {
@@ -1,16 +1,28 @@
 package ru.practicum.shareit.request.storage;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestStorage extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findByRequesterId(Long requesterId);
+    @Query("select i from ItemRequest i where i.requester.id = ?1 order by i.created desc, i.id desc")
+    List<ItemRequest> findByRequesterIdOrderByCreatedDescIdDesc(Long requesterId);
 
-    @Query("select i from ItemRequest i where i.requester.id != ?1")
-    Page<ItemRequest> findAllWithoutRequesterId(Long requesterId, Pageable pageable);
+    @Query("select i from ItemRequest i where i.requester.id <> ?1 order by i.created desc, i.id desc")
+    Slice<ItemRequest> findByRequesterIdNotOrderByCreatedDescIdDesc(Long requesterId, Pageable pageable);
+
+    @Query("select i from ItemRequest i " +
+            "where i.requester.id <> ?1 and i.created <= ?2 and (i.created < ?2 or (i.created = ?2 and i.id < ?3)) " +
+            "order by i.created desc, i.id desc")
+    Slice<ItemRequest> findAllWithoutRequesterIdBefore(
+            Long requesterId,
+            LocalDateTime created,
+            Long id,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.metrics.MetricsTags;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    @Autowired
+    private SqlBudgetProperties properties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlCounts counts = SqlStatementCounter.begin(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlCounts counts) {
+        String endpoint = MetricsTags.endpoint(request);
+        DistributionSummary.builder("shareit.sql.statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+        DistributionSummary.builder("shareit.sql.rows")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(counts.getRows());
+        int maxStatements = properties.getMaxStatements(request);
+        if (counts.isRejected()) {
+            log.warn("Запрос к " + endpoint + " отклонён из-за превышения бюджета SQL-запросов: " +
+                    maxStatements + ", прочитано строк: " + counts.getRows());
+        } else if (counts.getStatements() > maxStatements) {
+            log.warn("Превышен бюджет SQL-запросов для " + endpoint + ": выполнено " + counts.getStatements() +
+                    " при допустимых " + maxStatements + ", прочитано строк: " + counts.getRows());
+        }
+    }
+}
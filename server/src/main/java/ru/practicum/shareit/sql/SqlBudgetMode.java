@@ -0,0 +1,6 @@
+package ru.practicum.shareit.sql;
+
+public enum SqlBudgetMode {
+    LOG,
+    REJECT
+}
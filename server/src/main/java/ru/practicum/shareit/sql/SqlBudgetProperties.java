@@ -0,0 +1,29 @@
+package ru.practicum.shareit.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.sql-budget")
+public class SqlBudgetProperties {
+    private boolean enabled = true;
+    private SqlBudgetMode mode = SqlBudgetMode.LOG;
+    private int defaultMaxStatements = 20;
+    private Map<String, Map<String, Integer>> endpoints = new HashMap<>();
+
+    public int getMaxStatements(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return defaultMaxStatements;
+        }
+        return endpoints.getOrDefault(request.getMethod().toLowerCase(), Map.of())
+                .getOrDefault(pattern.toString(), defaultMaxStatements);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+    @Autowired
+    private ObjectProvider<SqlBudgetProperties> properties;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlBudgetProperties budgetProperties = properties.getObject();
+        if (!budgetProperties.isEnabled()) {
+            return bean;
+        }
+        SqlCountingListener listener = new SqlCountingListener(budgetProperties);
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(beanName)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import ru.practicum.shareit.exceptions.model.SqlBudgetExceededException;
+import ru.practicum.shareit.metrics.MetricsTags;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+public class SqlCountingListener implements QueryExecutionListener, MethodExecutionListener {
+    private final SqlBudgetProperties properties;
+
+    public SqlCountingListener(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlCounts counts = SqlStatementCounter.current();
+        if (counts == null) {
+            return;
+        }
+        counts.addStatement();
+        if (properties.getMode() != SqlBudgetMode.REJECT || counts.getRequest() == null || counts.isRejected()) {
+            return;
+        }
+        int maxStatements = properties.getMaxStatements(counts.getRequest());
+        if (counts.getStatements() > maxStatements) {
+            counts.reject();
+            throw new SqlBudgetExceededException("Превышен бюджет SQL-запросов для " +
+                    MetricsTags.endpoint(counts.getRequest()) + ". Допустимо запросов: " + maxStatements);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlCounts counts = SqlStatementCounter.current();
+        if (counts == null) {
+            return;
+        }
+        Object result = execInfo.getResult();
+        if (result instanceof Integer) {
+            counts.addRows(Math.max((Integer) result, 0));
+        } else if (result instanceof int[]) {
+            for (int updated : (int[]) result) {
+                counts.addRows(Math.max(updated, 0));
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        SqlCounts counts = SqlStatementCounter.current();
+        if (counts != null
+                && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            counts.addRows(1);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.sql;
+
+import lombok.Getter;
+
+import javax.servlet.http.HttpServletRequest;
+
+@Getter
+public class SqlCounts {
+    private final HttpServletRequest request;
+    private long statements;
+    private long rows;
+    private boolean rejected;
+
+    SqlCounts(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    void addStatement() {
+        statements++;
+    }
+
+    void reject() {
+        rejected = true;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void add(SqlCounts counts) {
+        statements += counts.statements;
+        rows += counts.rows;
+    }
+}
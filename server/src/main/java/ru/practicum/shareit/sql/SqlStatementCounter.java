@@ -0,0 +1,46 @@
+package ru.practicum.shareit.sql;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class SqlStatementCounter {
+    private static final ThreadLocal<SqlCounts> CURRENT = new ThreadLocal<>();
+
+    public static SqlCounts current() {
+        return CURRENT.get();
+    }
+
+    public static SqlCounts measure(Runnable call) {
+        SqlCounts previous = CURRENT.get();
+        SqlCounts counts = new SqlCounts(previous != null ? previous.getRequest() : null);
+        CURRENT.set(counts);
+        try {
+            call.run();
+        } finally {
+            if (previous != null) {
+                previous.add(counts);
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        return counts;
+    }
+
+    public static void assertStatementCount(long expected, Runnable call) {
+        SqlCounts counts = measure(call);
+        if (counts.getStatements() != expected) {
+            throw new AssertionError("Ожидалось SQL-запросов: " + expected +
+                    ", выполнено: " + counts.getStatements() + ", прочитано строк: " + counts.getRows());
+        }
+    }
+
+    static SqlCounts begin(HttpServletRequest request) {
+        SqlCounts counts = new SqlCounts(request);
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
@@ -3,6 +3,8 @@ package ru.practicum.shareit.user;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -21,6 +23,15 @@ public class UserController {
         return userService.createUser(userDto);
     }
 
+    @PostMapping("/batch")
+    public BatchResponse<UserDto> createUsers(
+            @RequestBody List<UserDto> userDtoList,
+            @RequestParam(defaultValue = "ATOMIC") BatchMode mode
+    ) {
+        log.info("Получен запрос на пакетное добавление пользователей. Количество: " + userDtoList.size());
+        return userService.createUsers(userDtoList, mode);
+    }
+
     @GetMapping
     public List<UserDto> getAllUsers() {
         log.info("Получен запрос на формирование списка всех пользователей");
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user.service;
 
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
@@ -8,6 +10,8 @@ import java.util.List;
 public interface UserService {
     UserDto createUser(UserDto userDto);
 
+    BatchResponse<UserDto> createUsers(List<UserDto> userDtoList, BatchMode mode);
+
     UserDto updateUser(UserDto userDto, Long userId);
 
     User getUserById(Long userId);
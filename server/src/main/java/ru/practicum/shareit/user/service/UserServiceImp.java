@@ -3,19 +3,40 @@ package ru.practicum.shareit.user.service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.batch.BatchMode;
+import ru.practicum.shareit.batch.BatchResponse;
+import ru.practicum.shareit.batch.BatchRows;
+import ru.practicum.shareit.cache.EntityCacheEvictor;
+import ru.practicum.shareit.exceptions.model.AlreadyExistsException;
+import ru.practicum.shareit.exceptions.model.NotFoundException;
 import ru.practicum.shareit.exceptions.model.ValidationException;
+import ru.practicum.shareit.item.card.ItemCardCache;
+import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.storage.UserStorage;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Primary
 @Service
 public class UserServiceImp implements UserService {
     @Autowired
     private UserStorage userStorage;
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+    @Autowired
+    private CommentStorage commentStorage;
+    @Autowired
+    private ItemCardCache itemCardCache;
+    @Autowired
+    private ItemStorage itemStorage;
 
     @Override
     public UserDto createUser(UserDto userDto) {
@@ -26,6 +47,32 @@ public class UserServiceImp implements UserService {
     }
 
     @Override
+    @Transactional
+    public BatchResponse<UserDto> createUsers(List<UserDto> userDtoList, BatchMode mode) {
+        List<String> emailList = new ArrayList<>();
+        for (UserDto userDto : userDtoList) {
+            if (userDto.getEmail() != null) {
+                emailList.add(userDto.getEmail());
+            }
+        }
+        Set<String> usedEmails = new HashSet<>();
+        for (User user : userStorage.findByEmailIn(emailList)) {
+            usedEmails.add(user.getEmail());
+        }
+        BatchRows<User> rows = BatchRows.prepare(userDtoList, mode, userDto -> {
+            User newUser = UserMapper.toUser(userDto);
+            checkNameUser(newUser);
+            checkEmailUser(newUser);
+            if (!usedEmails.add(newUser.getEmail())) {
+                throw new AlreadyExistsException("Пользователь с почтой " + newUser.getEmail() + " уже существует");
+            }
+            return newUser;
+        });
+        return rows.toResponse(userStorage.saveAll(rows.getEntities()), UserMapper::toUserDto);
+    }
+
+    @Override
+    @Transactional
     public UserDto updateUser(UserDto userDto, Long userId) {
         User updateUser = UserMapper.toUser(userDto, userId);
         User oldUser = getUserById(updateUser.getId());
@@ -39,22 +86,36 @@ public class UserServiceImp implements UserService {
         if (updateUser.getName() == null || updateUser.getName().isEmpty()) {
             updateUser.setName(oldUser.getName());
         }
-        return UserMapper.toUserDto(userStorage.save(updateUser));
+        updateUser.setVersion(oldUser.getVersion());
+        boolean nameChanged = !updateUser.getName().equals(oldUser.getName());
+        User savedUser = userStorage.save(updateUser);
+        entityCacheEvictor.evictAfterCommit(User.class, userId);
+        if (nameChanged) {
+            List<Long> commentedItemIdList = commentStorage.findItemIdsByAuthorId(userId);
+            itemStorage.findAllByIdForUpdate(commentedItemIdList);
+            for (Long itemId : commentedItemIdList) {
+                itemCardCache.invalidateAfterCommit(itemId);
+            }
+        }
+        return UserMapper.toUserDto(savedUser);
     }
 
     @Override
     public User getUserById(Long userId) {
-        return userStorage.getById(userId);
+        return userStorage.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователь с ID " + userId + " не найден"));
     }
 
     @Override
     public UserDto getUserDtoById(Long userId) {
-        return UserMapper.toUserDto(userStorage.getById(userId));
+        return UserMapper.toUserDto(getUserById(userId));
     }
 
     @Override
+    @Transactional
     public void deleteUserById(Long userId) {
         userStorage.delete(getUserById(userId));
+        entityCacheEvictor.evictAfterCommit(User.class, userId);
     }
 
     @Override
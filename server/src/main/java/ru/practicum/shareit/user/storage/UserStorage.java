@@ -3,6 +3,9 @@ package ru.practicum.shareit.user.storage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.user.model.User;
 
-public interface UserStorage extends JpaRepository<User, Long> {
+import java.util.Collection;
+import java.util.List;
 
+public interface UserStorage extends JpaRepository<User, Long> {
+    List<User> findByEmailIn(Collection<String> emails);
 }
@@ -0,0 +1,8 @@
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM users) INCREMENT BY 50;
+
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM items) INCREMENT BY 50;
+
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings) INCREMENT BY 50;
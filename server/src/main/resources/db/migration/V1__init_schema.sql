@@ -1,9 +1,3 @@
-DROP TABLE IF EXISTS bookings;
-DROP TABLE IF EXISTS comments;
-DROP TABLE IF EXISTS item_requests;
-DROP TABLE IF EXISTS items;
-DROP TABLE IF EXISTS users;
-
 CREATE TABLE IF NOT EXISTS users (
     id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
     name VARCHAR(64) NOT NULL,
@@ -44,4 +38,4 @@ CREATE TABLE IF NOT EXISTS item_requests (
     description VARCHAR(512) NOT NULL,
     requester_id BIGINT NOT NULL,
     created TIMESTAMP NOT NULL
-);
\ No newline at end of file
+);
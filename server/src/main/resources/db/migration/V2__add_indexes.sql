@@ -0,0 +1,13 @@
+CREATE INDEX IF NOT EXISTS idx_bookings_item_dates ON bookings (item_id, start_date, end_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_booker_status ON bookings (item_id, booker_id, status);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_id ON bookings (booker_id, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_status ON bookings (booker_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_dates ON bookings (booker_id, start_date, end_date);
+
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (owner, id);
+CREATE INDEX IF NOT EXISTS idx_items_request_id ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_item_id ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS idx_item_requests_requester_id ON item_requests (requester_id, created);
+CREATE INDEX IF NOT EXISTS idx_item_requests_created ON item_requests (created, id);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_comments_author_id ON comments (author_id, item_id);
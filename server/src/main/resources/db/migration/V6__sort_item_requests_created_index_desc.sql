@@ -0,0 +1,2 @@
+DROP INDEX IF EXISTS idx_item_requests_created;
+CREATE INDEX IF NOT EXISTS idx_item_requests_created ON item_requests (created DESC, id DESC);
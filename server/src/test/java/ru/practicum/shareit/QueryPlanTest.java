@@ -0,0 +1,229 @@
+package ru.practicum.shareit;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.model.State;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.search.mode=DATABASE")
+class QueryPlanTest {
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private StatementCapture statementCapture;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+    private Long bookingId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = createUser("owner");
+        bookerId = createUser("booker");
+        Long requestId = itemRequestService.createItemRequest(
+                new ItemRequestDto(null, "Нужна дрель", null, null), bookerId).getId();
+        itemRequestService.createItemRequest(new ItemRequestDto(null, "Нужна пила", null, null), bookerId);
+        itemId = itemService.createItem(new ItemDtoRequest("Дрель", "Ударная дрель", true, requestId), ownerId)
+                .getId();
+        Long otherItemId = itemService.createItem(new ItemDtoRequest("Дрель", "Дрель-шуруповерт", true, null), ownerId)
+                .getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingId = bookingService.createBooking(new BookingDtoRequest(itemId, start, start.plusDays(2)), bookerId)
+                .getId();
+        bookingService.createBooking(new BookingDtoRequest(otherItemId, start, start.plusDays(2)), bookerId);
+    }
+
+    @Test
+    void itemQueriesUseIndexes() {
+        assertUsesIndexes(() -> {
+            itemService.getAllItemsByUser(ownerId, 0, PAGE_SIZE);
+            itemService.getAllItemsByUser(ownerId, itemService.getAllItemsByUser(ownerId, "", 1).getNextCursor(), 1);
+            itemService.getItemByIdWithBooking(itemId, ownerId);
+            itemService.getItemETag(itemId, ownerId);
+            itemService.updateItem(new ItemDtoRequest("Дрель", null, null, null), itemId, ownerId);
+        });
+    }
+
+    @Test
+    void searchQueriesUseIndexes() {
+        assertUsesIndexes(() -> {
+            itemService.searchItem("дрель", 0, PAGE_SIZE);
+            itemService.searchItem("дрель", itemService.searchItem("дрель", "", 1).getNextCursor(), 1);
+        });
+    }
+
+    @Test
+    void bookingQueriesUseIndexes() {
+        assertUsesIndexes(() -> {
+            for (State state : State.values()) {
+                bookingService.getAllBookingsForUser(state.name(), bookerId, 0, PAGE_SIZE);
+                bookingService.getAllBookingsForUser(state.name(), bookerId,
+                        bookingService.getAllBookingsForUser(state.name(), bookerId, "", 1).getNextCursor(), 1);
+                bookingService.getAllBookingsForOwner(state.name(), ownerId, 0, PAGE_SIZE);
+                bookingService.getAllBookingsForOwner(state.name(), ownerId,
+                        bookingService.getAllBookingsForOwner(state.name(), ownerId, "", 1).getNextCursor(), 1);
+            }
+            bookingService.countBookingsForUser(bookerId);
+            bookingService.countBookingsForOwner(ownerId);
+            bookingService.getBookingDtoById(bookingId, bookerId);
+            bookingService.getBookingETag(bookingId, bookerId);
+        });
+    }
+
+    @Test
+    void bookingWritesUseIndexes() {
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        assertUsesIndexes(() -> {
+            Long newBookingId = bookingService.createBooking(
+                    new BookingDtoRequest(itemId, start, start.plusDays(2)), bookerId).getId();
+            bookingService.updateBookingStatus(bookingId, ownerId, "true");
+            bookingService.updateBookingStatuses(List.of(newBookingId), ownerId, "false");
+        });
+    }
+
+    @Test
+    void commentQueriesUseIndexes() {
+        bookingService.updateBookingStatus(bookingId, ownerId, "true");
+        jdbcTemplate.update("UPDATE bookings SET start_date = ?, end_date = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(1), bookingId);
+        assertUsesIndexes(() -> {
+            itemService.addComment(new CommentDto(null, "Отличная дрель", null, null), itemId, bookerId);
+            userService.updateUser(new UserDto(null, "renamed", null), bookerId);
+        });
+    }
+
+    @Test
+    void requestAndUserQueriesUseIndexes() {
+        assertUsesIndexes(() -> {
+            itemRequestService.getItemRequestForUser(bookerId);
+            itemRequestService.getAllItemRequest(ownerId, 0, PAGE_SIZE);
+            itemRequestService.getAllItemRequest(ownerId,
+                    itemRequestService.getAllItemRequest(ownerId, "", 1).getNextCursor(), 1);
+            userService.createUser(new UserDto(null, "user", "user-" + UUID.randomUUID() + "@mail.ru"));
+        });
+    }
+
+    private void assertUsesIndexes(Runnable call) {
+        List<QueryInfo> statements = statementCapture.capture(call);
+        List<QueryInfo> selects = new ArrayList<>();
+        for (QueryInfo statement : statements) {
+            if (statement.getQuery().trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                selects.add(statement);
+            }
+        }
+        assertThat(selects).isNotEmpty();
+        List<String> tableScans = new ArrayList<>();
+        for (QueryInfo select : selects) {
+            String plan = String.join("\n", explain(select));
+            if (plan.contains("tableScan")) {
+                tableScans.add(plan);
+            }
+        }
+        assertThat(tableScans).as("Запросы без индекса").isEmpty();
+    }
+
+    private List<String> explain(QueryInfo statement) {
+        List<ParameterSetOperation> parameters = statement.getParametersList().isEmpty()
+                ? List.of()
+                : statement.getParametersList().get(0);
+        return jdbcTemplate.query("EXPLAIN " + statement.getQuery(), preparedStatement -> {
+            for (ParameterSetOperation parameter : parameters) {
+                try {
+                    parameter.getMethod().invoke(preparedStatement, parameter.getArgs());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }, (resultSet, rowNum) -> resultSet.getString(1));
+    }
+
+    private Long createUser(String name) {
+        return userService.createUser(new UserDto(null, name, name + "-" + UUID.randomUUID() + "@mail.ru")).getId();
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+        @Bean
+        static StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+    }
+
+    static class StatementCapture implements BeanPostProcessor, QueryExecutionListener {
+        private final ThreadLocal<List<QueryInfo>> captured = new ThreadLocal<>();
+
+        List<QueryInfo> capture(Runnable call) {
+            List<QueryInfo> statements = new ArrayList<>();
+            captured.set(statements);
+            try {
+                call.run();
+            } finally {
+                captured.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource)) {
+                return bean;
+            }
+            return ProxyDataSourceBuilder.create((DataSource) bean)
+                    .name(beanName)
+                    .listener(this)
+                    .build();
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<QueryInfo> statements = captured.get();
+            if (statements != null) {
+                statements.addAll(queryInfoList);
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BookingOverlapConcurrencyTest {
+    private static final int HOT_ITEMS = 4;
+    private static final int BOOKERS_PER_ITEM = 8;
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemStorage itemStorage;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void parallelBookingsNeverOverlapOnAnyItem() throws Exception {
+        List<Long> ownerIdList = new ArrayList<>();
+        List<Long> itemIdList = new ArrayList<>();
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            Long ownerId = createUser("owner" + i);
+            ownerIdList.add(ownerId);
+            itemIdList.add(createItem(ownerId));
+        }
+        List<Long> bookerIdList = createBookers(BOOKERS_PER_ITEM);
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(HOT_ITEMS * BOOKERS_PER_ITEM);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        try {
+            for (Long itemId : itemIdList) {
+                for (int i = 0; i < BOOKERS_PER_ITEM; i++) {
+                    Long bookerId = bookerIdList.get(i);
+                    LocalDateTime start = base.plusDays(i % 4);
+                    futures.add(executor.submit(() -> {
+                        startGate.await();
+                        return book(itemId, bookerId, start, start.plusDays(2));
+                    }));
+                }
+            }
+            startGate.countDown();
+
+            int succeeded = 0;
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get(60, TimeUnit.SECONDS);
+                if (response.getStatus() == HttpStatus.OK.value()) {
+                    succeeded++;
+                } else {
+                    assertThat(response.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+                    assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("уже забронирована");
+                }
+            }
+
+            int stored = 0;
+            for (Long ownerId : ownerIdList) {
+                List<JsonNode> bookings = getOwnerBookings(ownerId);
+                assertThat(bookings).isNotEmpty();
+                assertNoOverlap(bookings);
+                stored += bookings.size();
+            }
+            assertThat(stored).isEqualTo(succeeded);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockedItemDoesNotBlockBookingsOfOtherItems() throws Exception {
+        Long lockedItemId = createItem(createUser("locked-owner"));
+        List<Long> otherItemIdList = new ArrayList<>();
+        for (int i = 0; i < HOT_ITEMS; i++) {
+            otherItemIdList.add(createItem(createUser("owner" + i)));
+        }
+        List<Long> bookerIdList = createBookers(BOOKERS_PER_ITEM);
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2 + otherItemIdList.size() * 2);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<?> lockHolder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                itemStorage.findByIdForUpdate(lockedItemId);
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(30, TimeUnit.SECONDS)).isTrue();
+
+            Future<MockHttpServletResponse> blocked = executor.submit(() ->
+                    book(lockedItemId, bookerIdList.get(0), base, base.plusDays(2)));
+            List<Future<MockHttpServletResponse>> others = new ArrayList<>();
+            for (Long itemId : otherItemIdList) {
+                for (int i = 0; i < 2; i++) {
+                    Long bookerId = bookerIdList.get(i);
+                    LocalDateTime start = base.plusDays(i * 3L);
+                    others.add(executor.submit(() -> book(itemId, bookerId, start, start.plusDays(2))));
+                }
+            }
+
+            for (Future<MockHttpServletResponse> future : others) {
+                assertThat(future.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpStatus.OK.value());
+            }
+            assertThat(blocked.isDone()).isFalse();
+
+            release.countDown();
+            lockHolder.get(30, TimeUnit.SECONDS);
+            assertThat(blocked.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpStatus.OK.value());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private MockHttpServletResponse book(Long itemId, Long bookerId, LocalDateTime start, LocalDateTime end)
+            throws Exception {
+        return mockMvc.perform(post("/bookings")
+                        .header(USER_HEADER, bookerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingDtoRequest(itemId, start, end))))
+                .andReturn()
+                .getResponse();
+    }
+
+    private List<JsonNode> getOwnerBookings(Long ownerId) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/bookings/owner")
+                        .header(USER_HEADER, ownerId)
+                        .param("size", String.valueOf(BOOKERS_PER_ITEM)))
+                .andReturn()
+                .getResponse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        List<JsonNode> bookings = new ArrayList<>();
+        objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8)).forEach(bookings::add);
+        return bookings;
+    }
+
+    private void assertNoOverlap(List<JsonNode> bookings) {
+        for (int i = 0; i < bookings.size(); i++) {
+            for (int j = i + 1; j < bookings.size(); j++) {
+                LocalDateTime start = LocalDateTime.parse(bookings.get(i).get("start").asText());
+                LocalDateTime end = LocalDateTime.parse(bookings.get(i).get("end").asText());
+                LocalDateTime otherStart = LocalDateTime.parse(bookings.get(j).get("start").asText());
+                LocalDateTime otherEnd = LocalDateTime.parse(bookings.get(j).get("end").asText());
+                assertThat(start.isBefore(otherEnd) && otherStart.isBefore(end))
+                        .as("Бронирования %s и %s пересекаются", bookings.get(i), bookings.get(j))
+                        .isFalse();
+            }
+        }
+    }
+
+    private List<Long> createBookers(int count) {
+        List<Long> bookerIdList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bookerIdList.add(createUser("booker" + i));
+        }
+        return bookerIdList;
+    }
+
+    private Long createItem(Long ownerId) {
+        return itemService.createItem(new ItemDtoRequest("Дрель", "Ударная дрель", true, null), ownerId).getId();
+    }
+
+    private Long createUser(String name) {
+        return userService.createUser(new UserDto(null, name, name + "-" + UUID.randomUUID() + "@mail.ru")).getId();
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingStatusResult;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingStatusBatchTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void reportsActualOutcomePerBooking() {
+        Long ownerId = createUser("owner");
+        Long otherOwnerId = createUser("other-owner");
+        Long bookerId = createUser("booker");
+        Long itemId = createItem(ownerId);
+        Long otherItemId = createItem(otherOwnerId);
+        Long waitingId = createBooking(itemId, bookerId, 1);
+        Long approvedId = createBooking(itemId, bookerId, 5);
+        Long foreignId = createBooking(otherItemId, bookerId, 1);
+        bookingService.updateBookingStatus(approvedId, ownerId, "true");
+
+        List<BookingStatusResult> results = bookingService.updateBookingStatuses(
+                List.of(waitingId, approvedId, foreignId, Long.MAX_VALUE), ownerId, "true");
+
+        assertThat(results).extracting(BookingStatusResult::getBookingId)
+                .containsExactly(waitingId, approvedId, foreignId, Long.MAX_VALUE);
+        assertThat(results.get(0).getStatus()).isEqualTo(Status.APPROVED);
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(results.get(1).getStatus()).isEqualTo(Status.APPROVED);
+        assertThat(results.get(1).getError()).isNotNull();
+        assertThat(results.get(2).getStatus()).isNull();
+        assertThat(results.get(3).getStatus()).isNull();
+        assertThat(bookingService.getBookingDtoById(foreignId, otherOwnerId).getStatus()).isEqualTo(Status.WAITING);
+
+        List<BookingStatusResult> rejected = bookingService.updateBookingStatuses(
+                List.of(waitingId), ownerId, "false");
+
+        assertThat(rejected.get(0).getStatus()).isEqualTo(Status.APPROVED);
+        assertThat(rejected.get(0).getError()).isNotNull();
+        assertThat(bookingService.getBookingDtoById(waitingId, ownerId).getStatus()).isEqualTo(Status.APPROVED);
+    }
+
+    @Test
+    void onlyOneOfParallelDecisionsIsReportedAsApplied() throws Exception {
+        Long ownerId = createUser("owner");
+        Long bookerId = createUser("booker");
+        Long bookingId = createBooking(createItem(ownerId), bookerId, 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            Future<List<BookingStatusResult>> approve = executor.submit(() -> {
+                startGate.await();
+                return bookingService.updateBookingStatuses(List.of(bookingId), ownerId, "true");
+            });
+            Future<List<BookingStatusResult>> reject = executor.submit(() -> {
+                startGate.await();
+                return bookingService.updateBookingStatuses(List.of(bookingId), ownerId, "false");
+            });
+            startGate.countDown();
+
+            BookingStatusResult approveResult = approve.get(30, TimeUnit.SECONDS).get(0);
+            BookingStatusResult rejectResult = reject.get(30, TimeUnit.SECONDS).get(0);
+            Status actual = bookingService.getBookingDtoById(bookingId, ownerId).getStatus();
+
+            assertThat(approveResult.getError() == null).isNotEqualTo(rejectResult.getError() == null);
+            BookingStatusResult applied = approveResult.getError() == null ? approveResult : rejectResult;
+            assertThat(applied.getStatus()).isEqualTo(actual);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createUser(String name) {
+        return userService.createUser(new UserDto(null, name, name + "-" + UUID.randomUUID() + "@mail.ru")).getId();
+    }
+
+    private Long createItem(Long ownerId) {
+        return itemService.createItem(new ItemDtoRequest("Дрель", "Ударная дрель", true, null), ownerId).getId();
+    }
+
+    private Long createBooking(Long itemId, Long bookerId, int startInDays) {
+        LocalDateTime start = LocalDateTime.now().plusDays(startInDays);
+        return bookingService.createBooking(new BookingDtoRequest(itemId, start, start.plusDays(2)), bookerId)
+                .getId();
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.sql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SqlStatementBudgetTest {
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private SqlBudgetProperties properties;
+
+    @Test
+    void ownerItemsDoNotQueryPerItem() {
+        Long bookerId = createUser("booker");
+        Long smallOwnerId = createOwnerWithBookedItems(1, bookerId);
+        Long largeOwnerId = createOwnerWithBookedItems(PAGE_SIZE, bookerId);
+
+        SqlCounts counts = SqlStatementCounter.measure(() ->
+                itemService.getAllItemsByUser(smallOwnerId, 0, PAGE_SIZE));
+
+        SqlStatementCounter.assertStatementCount(counts.getStatements(), () ->
+                assertThat(itemService.getAllItemsByUser(largeOwnerId, 0, PAGE_SIZE)).hasSize(PAGE_SIZE));
+        assertThat(counts.getStatements()).isLessThanOrEqualTo(budget("get", "/items"));
+    }
+
+    @Test
+    void ownerBookingsDoNotQueryPerBooking() {
+        Long bookerId = createUser("booker");
+        Long smallOwnerId = createOwnerWithBookedItems(1, bookerId);
+        Long largeOwnerId = createOwnerWithBookedItems(PAGE_SIZE, bookerId);
+
+        SqlCounts counts = SqlStatementCounter.measure(() ->
+                bookingService.getAllBookingsForOwner("ALL", smallOwnerId, 0, PAGE_SIZE));
+
+        SqlStatementCounter.assertStatementCount(counts.getStatements(), () ->
+                assertThat(bookingService.getAllBookingsForOwner("ALL", largeOwnerId, 0, PAGE_SIZE))
+                        .hasSize(PAGE_SIZE));
+        assertThat(counts.getStatements()).isLessThanOrEqualTo(budget("get", "/bookings/owner"));
+    }
+
+    private long budget(String method, String pattern) {
+        return properties.getEndpoints().get(method).get(pattern);
+    }
+
+    private Long createOwnerWithBookedItems(int itemCount, Long bookerId) {
+        Long ownerId = createUser("owner");
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < itemCount; i++) {
+            Long itemId = itemService.createItem(new ItemDtoRequest("Дрель " + i, "Ударная дрель", true, null), ownerId)
+                    .getId();
+            bookingService.createBooking(new BookingDtoRequest(itemId, start, start.plusDays(2)), bookerId);
+        }
+        return ownerId;
+    }
+
+    private Long createUser(String name) {
+        return userService.createUser(new UserDto(null, name, name + "-" + UUID.randomUUID() + "@mail.ru")).getId();
+    }
+}